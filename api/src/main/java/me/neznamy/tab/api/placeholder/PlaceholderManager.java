@@ -5,6 +5,7 @@ import me.neznamy.tab.api.TabAPI;
 import me.neznamy.tab.api.TabPlayer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -48,6 +49,31 @@ public interface PlaceholderManager {
      */
     @NotNull PlayerPlaceholder registerPlayerPlaceholder(@NonNull String identifier, int refresh, @NonNull Function<TabPlayer, String> function);
 
+    /**
+     * Registers a player placeholder retrieving its value asynchronously. The function is
+     * expected to start the retrieval and return immediately, for example when loading data
+     * from a database or a web service. Last known value is displayed until the returned
+     * future completes, after which the new value is applied the same way as values of
+     * regular placeholders. While a request for a player is in progress, refreshing of
+     * the placeholder for that player is skipped. If the future does not complete within
+     * {@code timeout} milliseconds, the request is abandoned and an error is logged.
+     *
+     * @param   identifier
+     *          Placeholder identifier
+     * @param   refresh
+     *          Refresh interval
+     * @param   timeout
+     *          Time in milliseconds after which the request is abandoned
+     * @param   function
+     *          Function starting retrieval of placeholder output
+     * @return  Registered placeholder for further use
+     * @throws  IllegalArgumentException
+     *          If {@code identifier} does not start and end with {@code %},
+     *          {@code refresh} is not divisible by 50 or {@code timeout} is not positive
+     */
+    @NotNull PlayerPlaceholder registerAsyncPlayerPlaceholder(@NonNull String identifier, int refresh, int timeout,
+                                                              @NonNull Function<TabPlayer, CompletableFuture<String>> function);
+
     /**
      * Registers a relational placeholder (placeholder with output different for each player duo)
      *
@@ -0,0 +1,46 @@
+plugins {
+    `java-test-fixtures`
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+    testFixturesApi(projects.shared)
+    // Provided by the server at runtime
+    testFixturesApi("com.google.guava:guava:31.1-jre")
+    testFixturesApi("net.kyori:adventure-api:4.13.0")
+    testFixturesApi("net.kyori:adventure-text-serializer-legacy:4.13.0")
+    testFixturesApi("net.kyori:adventure-text-serializer-gson:4.13.0")
+    testFixturesApi("net.kyori:adventure-text-minimessage:4.13.0")
+    testImplementation("org.junit.jupiter:junit-jupiter:5.10.2")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    jmhImplementation(testFixtures(project))
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    includes.set(providers.gradleProperty("jmh.includes").map { listOf(it) }.orElse(emptyList()))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+}
+
+tasks {
+    test {
+        useJUnitPlatform()
+        // Long-running, executed by simulate task
+        exclude("me/neznamy/tab/benchmark/simulation/**")
+    }
+    register<Test>("simulate") {
+        group = "benchmark"
+        description = "Runs load simulation with a headless platform and fake players."
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        useJUnitPlatform()
+        filter.includeTestsMatching("me.neznamy.tab.benchmark.simulation.*")
+        systemProperties(providers.gradlePropertiesPrefixedBy("tab.simulation.").get())
+        testLogging.showStandardStreams = true
+        outputs.upToDateWhen { false }
+    }
+}
@@ -0,0 +1,48 @@
+package me.neznamy.tab.benchmark;
+
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.util.cache.Cache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cache lookups with key sets both fitting and exceeding the cache size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheBenchmark {
+
+    /** Size of the cache */
+    private static final int CACHE_SIZE = 1000;
+
+    /** Amount of distinct keys that are requested */
+    @Param({"100", "5000"})
+    public int keys;
+
+    /** Cache to benchmark */
+    private Cache<String, TabComponent> cache;
+
+    /** Requested keys */
+    private String[] values;
+
+    /** Index of next key to request */
+    private int index;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.start();
+        cache = new Cache<>("Benchmark", CACHE_SIZE, TabComponent::fromColoredText);
+        values = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            values[i] = "&7[&aVIP&7] &fPlayer" + i;
+        }
+    }
+
+    @Benchmark
+    public TabComponent get() {
+        if (++index == values.length) index = 0;
+        return cache.get(values[index]);
+    }
+}
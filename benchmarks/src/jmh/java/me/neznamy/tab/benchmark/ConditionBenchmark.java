@@ -0,0 +1,57 @@
+package me.neznamy.tab.benchmark;
+
+import me.neznamy.tab.shared.placeholders.conditions.Condition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures evaluation of a condition with many sub-conditions, both
+ * with all of them evaluated and with evaluation ending early.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConditionBenchmark {
+
+    /** Amount of sub-conditions */
+    @Param("50")
+    public int lines;
+
+    /** {@code true} for AND type, {@code false} for OR type */
+    @Param({"true", "false"})
+    public boolean and;
+
+    /** Player to evaluate condition for */
+    private BenchmarkTabPlayer player;
+
+    /** Condition to benchmark */
+    private Condition condition;
+
+    @Setup
+    public void setup() {
+        player = BenchmarkEnvironment.addPlayers(1).get(0);
+        List<String> conditions = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            switch (i % 3) {
+                case 0:
+                    conditions.add("%ping%<" + (1000 + i));
+                    break;
+                case 1:
+                    conditions.add("%world%!=world" + i);
+                    break;
+                default:
+                    conditions.add("%player%<-Player");
+            }
+        }
+        condition = new Condition(and, "benchmark-" + lines + "-" + and, conditions, "yes", "no");
+        condition.finishSetup();
+    }
+
+    @Benchmark
+    public boolean isMet() {
+        return condition.isMet(player);
+    }
+}
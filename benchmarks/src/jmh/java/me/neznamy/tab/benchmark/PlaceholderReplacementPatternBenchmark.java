@@ -0,0 +1,47 @@
+package me.neznamy.tab.benchmark;
+
+import me.neznamy.tab.shared.placeholders.PlaceholderReplacementPattern;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding replacements of placeholder output with exact
+ * and number interval patterns.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlaceholderReplacementPatternBenchmark {
+
+    /** Placeholder output to find replacement for */
+    @Param({"SURVIVAL", "37", "1,250.5", "not a number"})
+    public String output;
+
+    /** Pattern to benchmark */
+    private PlaceholderReplacementPattern pattern;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.start();
+        Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("SURVIVAL", "&aSurvival");
+        map.put("CREATIVE", "&eCreative");
+        map.put("ADVENTURE", "&6Adventure");
+        map.put("SPECTATOR", "&7Spectator");
+        map.put("true", "&aYes");
+        map.put("false", "&cNo");
+        for (int i = 0; i < 20; i++) {
+            map.put(i * 100 + "-" + (i * 100 + 99), "&" + Integer.toHexString(i % 16) + "%value%");
+        }
+        map.put("else", "&f%value%");
+        pattern = PlaceholderReplacementPattern.create("%benchmark%", map);
+    }
+
+    @Benchmark
+    public String findReplacement() {
+        return pattern.findReplacement(output);
+    }
+}
@@ -0,0 +1,45 @@
+package me.neznamy.tab.benchmark;
+
+import me.neznamy.tab.shared.Property;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures refreshing and formatting of properties with typical prefix values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertyBenchmark {
+
+    /** Raw value of the property */
+    @Param({
+            "&7[&aVIP&7] &f",
+            "&#FF5555[%group%] &#FFFFFF%player%",
+            "<#FF0000>%player%</#0000FF> &7(&e%ping%ms&7)"
+    })
+    public String raw;
+
+    /** Player owning and viewing the property */
+    private BenchmarkTabPlayer player;
+
+    /** Property to benchmark */
+    private Property property;
+
+    @Setup
+    public void setup() {
+        player = BenchmarkEnvironment.addPlayers(1).get(0);
+        property = new Property(null, player, raw);
+    }
+
+    @Benchmark
+    public boolean update() {
+        return property.update();
+    }
+
+    @Benchmark
+    public String getFormat() {
+        return property.getFormat(player);
+    }
+}
@@ -0,0 +1,30 @@
+package me.neznamy.tab.benchmark;
+
+import me.neznamy.tab.shared.chat.rgb.RGBUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversion of all supported RGB formats into the internal format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RGBUtilsBenchmark {
+
+    /** Text to convert */
+    @Param({
+            "&7[&aVIP&7] &f",
+            "&#FF5555[Owner] &#FFFFFF",
+            "<#FF0000>Gradient prefix</#0000FF> &7| ",
+            "{#FF0000>}Gradient prefix{#0000FF<} &7| ",
+            "<#FF0000|L>Legacy gradient</#0000FF> #<00FF00>Hex"
+    })
+    public String text;
+
+    @Benchmark
+    public String applyFormats() {
+        return RGBUtils.getInstance().applyFormats(text);
+    }
+}
@@ -0,0 +1,52 @@
+package me.neznamy.tab.benchmark;
+
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.features.sorting.Sorting;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building of team names with many players online, where
+ * the uniqueness check scales with online player count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SortingBenchmark {
+
+    /** Amount of online players */
+    @Param({"100", "2000"})
+    public int players;
+
+    /** Sorting feature */
+    private Sorting sorting;
+
+    /** Online players */
+    private List<BenchmarkTabPlayer> online;
+
+    /** Index of next player to construct team name for */
+    private int index;
+
+    @Setup
+    public void setup() {
+        BenchmarkEnvironment.removePlayers();
+        online = BenchmarkEnvironment.addPlayers(players);
+        sorting = TAB.getInstance().getFeatureManager().getFeature(TabConstants.Feature.SORTING);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkEnvironment.removePlayers();
+    }
+
+    @Benchmark
+    public String constructTeamNames() {
+        if (++index == online.size()) index = 0;
+        BenchmarkTabPlayer player = online.get(index);
+        sorting.constructTeamNames(player);
+        return player.sortingData.getShortTeamName();
+    }
+}
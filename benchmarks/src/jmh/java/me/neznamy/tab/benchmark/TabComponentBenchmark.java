@@ -0,0 +1,37 @@
+package me.neznamy.tab.benchmark;
+
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.chat.rgb.RGBUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing of colored text into components.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TabComponentBenchmark {
+
+    /** Text to parse, RGB formats are converted in setup */
+    @Param({
+            "&7[&aVIP&7] &fPlayer",
+            "&#FF5555&l[Owner] &#FFFFFFPlayer &7(&e50ms&7)",
+            "<#FF0000>Gradient prefix that is rather long</#0000FF> &7| &fPlayer"
+    })
+    public String text;
+
+    /** Text with RGB formats converted */
+    private String converted;
+
+    @Setup
+    public void setup() {
+        converted = RGBUtils.getInstance().applyFormats(text);
+    }
+
+    @Benchmark
+    public TabComponent fromColoredText() {
+        return TabComponent.fromColoredText(converted);
+    }
+}
@@ -0,0 +1,49 @@
+package me.neznamy.tab.benchmark;
+
+import me.neznamy.tab.shared.GroupManager;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.cpu.ThreadExecutor;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link GroupManager} refreshing groups on permission change notifications.
+ */
+class GroupManagerTest {
+
+    @Test
+    void groupRefreshesOnChangeNotification() throws Exception {
+        BenchmarkPermissions permissions = BenchmarkEnvironment.start().getPermissions();
+        List<BenchmarkTabPlayer> players = BenchmarkEnvironment.addPlayers(2);
+        awaitGroupRefresh();
+        TabPlayer changed = players.get(0);
+        TabPlayer other = players.get(1);
+        String otherGroup = other.getPermissionGroup();
+
+        permissions.setGroup(changed.getUniqueId(), "group-manager-test");
+        awaitGroupRefresh();
+        assertEquals("group-manager-test", changed.getPermissionGroup());
+        assertEquals(otherGroup, other.getPermissionGroup());
+    }
+
+    /**
+     * Waits until queued group refreshes and their changes are processed.
+     */
+    private void awaitGroupRefresh() throws Exception {
+        await(TAB.getInstance().getCpu().getGroupRefreshingThread());
+        await(TAB.getInstance().getCpu().getProcessingThread());
+    }
+
+    private void await(@NotNull ThreadExecutor thread) throws Exception {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        thread.execute(() -> future.complete(null));
+        future.get(1, TimeUnit.MINUTES);
+    }
+}
@@ -0,0 +1,51 @@
+package me.neznamy.tab.benchmark;
+
+import me.neznamy.tab.shared.Property;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.features.PlaceholderManagerImpl;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link Property} texts shared between players.
+ */
+class PropertyTest {
+
+    /** Placeholder used by tested texts */
+    private static final String PLACEHOLDER = "%property-test%";
+
+    @Test
+    void sharedTextRefreshesAfterReload() throws Exception {
+        BenchmarkEnvironment.start();
+        TabPlayer player = join();
+        TAB.getInstance().getPlaceholderManager().registerServerPlaceholder(PLACEHOLDER, -1, () -> "first");
+        assertEquals("Value: first", new Property(null, player, "Value: " + PLACEHOLDER).updateAndGet());
+        int generation = TAB.getInstance().getPlaceholderManager().getRegistrationGeneration();
+
+        TAB.getInstance().unload();
+        TAB.getInstance().load();
+        player = join();
+        // Loading the same configuration again may reach the same amount of registrations
+        PlaceholderManagerImpl manager = TAB.getInstance().getPlaceholderManager();
+        while (manager.getRegistrationGeneration() < generation - 1) {
+            manager.registerServerPlaceholder("%property-test-padding%", -1, () -> "");
+        }
+        manager.registerServerPlaceholder(PLACEHOLDER, -1, () -> "second");
+        assertEquals("Value: second", new Property(null, player, "Value: " + PLACEHOLDER).updateAndGet());
+    }
+
+    @NotNull
+    private TabPlayer join() throws Exception {
+        TabPlayer player = BenchmarkEnvironment.addPlayers(1).get(0);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        TAB.getInstance().getCPUManager().getProcessingThread().execute(() -> future.complete(null));
+        future.get(1, TimeUnit.MINUTES);
+        return player;
+    }
+}
@@ -0,0 +1,342 @@
+package me.neznamy.tab.benchmark.simulation;
+
+import lombok.Getter;
+import me.neznamy.tab.benchmark.BenchmarkPlatform;
+import me.neznamy.tab.benchmark.BenchmarkTabPlayer;
+import me.neznamy.tab.shared.FeatureManager;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.cpu.CpuManager;
+import org.jetbrains.annotations.NotNull;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load simulation running the plugin on a headless platform with given amount of players
+ * joining, switching worlds and servers, changing placeholder values and quitting.
+ * Reports packets sent to players, processing thread queue latency and CPU usage.
+ * <p>
+ * Settings are taken from system properties with {@code tab.simulation.} prefix,
+ * see {@link Settings}. It is driven by {@link LoadSimulationTest}, which fails
+ * if any configured threshold is exceeded.
+ */
+public class LoadSimulation {
+
+    /** Worlds players switch between */
+    private static final String[] WORLDS = {"world", "world_nether", "world_the_end", "lobby"};
+
+    /** How often the driver generates events */
+    private static final int DRIVER_INTERVAL_MILLIS = 100;
+
+    /** How often processing thread queue latency is measured */
+    private static final int PROBE_INTERVAL_MILLIS = 50;
+
+    /** Simulation settings */
+    @NotNull
+    private final Settings settings;
+
+    /** Random for generating events */
+    @NotNull
+    private final Random random;
+
+    /** Players currently online */
+    private final List<BenchmarkTabPlayer> online = new ArrayList<>();
+
+    /** Measured processing thread queue latencies in nanoseconds */
+    private final List<Long> queueLatencies = Collections.synchronizedList(new ArrayList<>());
+
+    /** Every CPU usage period map seen during the measurement */
+    private final Set<Map<String, Map<String, AtomicLong>>> featurePeriods = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** Every placeholder usage period map seen during the measurement */
+    private final Set<Map<String, AtomicLong>> placeholderPeriods = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** Feature CPU usage accumulated before the measurement started */
+    private Map<String, Long> featureBaseline;
+
+    /** Placeholder CPU usage accumulated before the measurement started */
+    private Map<String, Long> placeholderBaseline;
+
+    /** Counter for generating unique player names */
+    private int playerCounter;
+
+    /** Platform of the running instance */
+    private BenchmarkPlatform platform;
+
+    /**
+     * Constructs new instance with given settings.
+     *
+     * @param   settings
+     *          Simulation settings
+     */
+    public LoadSimulation(@NotNull Settings settings) {
+        this.settings = settings;
+        random = new Random(settings.seed);
+    }
+
+    /**
+     * Runs the simulation and returns the result.
+     *
+     * @return  Result of the simulation
+     * @throws  Exception
+     *          If something goes wrong
+     */
+    @NotNull
+    public SimulationResult run() throws Exception {
+        platform = new BenchmarkPlatform(prepareDataFolder());
+        TAB.create(platform);
+        if (TAB.getInstance().isPluginDisabled()) {
+            throw new IllegalStateException("Plugin failed to enable, check " + platform.getDataFolder() + " for error logs");
+        }
+        CpuManager cpu = TAB.getInstance().getCPUManager();
+        cpu.enableTracking();
+        ScheduledExecutorService driver = Executors.newSingleThreadScheduledExecutor();
+        try {
+            // Join everyone evenly over ramp-up time, then let the plugin settle
+            long rampMillis = TimeUnit.SECONDS.toMillis(settings.rampUpSeconds);
+            for (int i = 0; i < settings.players; i++) {
+                driver.schedule(this::join, rampMillis * i / settings.players, TimeUnit.MILLISECONDS);
+            }
+            Thread.sleep(rampMillis + TimeUnit.SECONDS.toMillis(settings.settleSeconds));
+            awaitProcessingThread();
+
+            // Measurement
+            driver.submit(() -> startMeasurement(cpu)).get();
+            long start = System.nanoTime();
+            List<ScheduledFuture<?>> tasks = new ArrayList<>();
+            tasks.add(driver.scheduleAtFixedRate(this::generateEvents, DRIVER_INTERVAL_MILLIS, DRIVER_INTERVAL_MILLIS, TimeUnit.MILLISECONDS));
+            tasks.add(driver.scheduleAtFixedRate(() -> probeQueueLatency(cpu), 0, PROBE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS));
+            tasks.add(driver.scheduleAtFixedRate(() -> sampleCpuPeriods(cpu), 1, 1, TimeUnit.SECONDS));
+            Thread.sleep(TimeUnit.SECONDS.toMillis(settings.durationSeconds));
+            for (ScheduledFuture<?> task : tasks) task.cancel(false);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return driver.submit(() -> {
+                sampleCpuPeriods(cpu);
+                return createResult(seconds);
+            }).get();
+        } finally {
+            driver.shutdownNow();
+            TAB.getInstance().unload();
+        }
+    }
+
+    /**
+     * Creates data folder for the simulation. If {@link Settings#configFolder} is set,
+     * it is used. Otherwise, a new folder is created with default configuration
+     * with all features that send packets periodically enabled.
+     *
+     * @return  Data folder for the simulation
+     * @throws  IOException
+     *          If file I/O fails
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private File prepareDataFolder() throws IOException {
+        if (settings.configFolder != null) return new File(settings.configFolder);
+        File folder = Files.createTempDirectory("tab-simulation").toFile();
+        Map<String, Object> config;
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream("config/config.yml")) {
+            if (input == null) throw new FileNotFoundException("Default config.yml not found");
+            config = new Yaml().load(new InputStreamReader(input, StandardCharsets.UTF_8));
+        }
+        for (String feature : Arrays.asList("bossbar", "scoreboard", "belowname-objective")) {
+            ((Map<String, Object>) config.get(feature)).put("enabled", true);
+        }
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(new File(folder, "config.yml").toPath()), StandardCharsets.UTF_8)) {
+            new Yaml(options).dump(config, writer);
+        }
+        return folder;
+    }
+
+    /**
+     * Creates a new player and processes the join in the same way platforms do.
+     */
+    private void join() {
+        BenchmarkTabPlayer player = new BenchmarkTabPlayer(platform, "Player" + playerCounter++, WORLDS[0]);
+        online.add(player);
+        TAB.getInstance().getCPUManager().runTask(() -> TAB.getInstance().getFeatureManager().onJoin(player));
+    }
+
+    /**
+     * Processes quit of given player in the same way platforms do.
+     *
+     * @param   player
+     *          Player to quit
+     */
+    private void quit(@NotNull BenchmarkTabPlayer player) {
+        online.remove(player);
+        TAB.getInstance().getCPUManager().runTask(() -> TAB.getInstance().getFeatureManager().onQuit(player));
+    }
+
+    /**
+     * Generates random events based on configured rates. Server switches are simulated
+     * as a quit of the player followed by a join of another one, which is how a backend
+     * server sees players switching servers in a network.
+     */
+    private void generateEvents() {
+        double share = DRIVER_INTERVAL_MILLIS / 1000d;
+        FeatureManager features = TAB.getInstance().getFeatureManager();
+        for (int i = 0; i < events(settings.valueChangesPerSecond * share); i++) {
+            BenchmarkTabPlayer player = randomPlayer();
+            if (player == null) break;
+            player.setPing(random.nextInt(300));
+            player.setHealth(1 + random.nextInt(20));
+            if (random.nextInt(10) == 0) player.setGamemode(random.nextInt(4));
+        }
+        for (int i = 0; i < events(settings.worldSwitchesPerSecond * share); i++) {
+            BenchmarkTabPlayer player = randomPlayer();
+            if (player == null) break;
+            String world = WORLDS[random.nextInt(WORLDS.length)];
+            TAB.getInstance().getCPUManager().runTask(() -> features.onWorldChange(player.getUniqueId(), world));
+        }
+        for (int i = 0; i < events(settings.serverSwitchesPerSecond * share); i++) {
+            BenchmarkTabPlayer player = randomPlayer();
+            if (player == null) break;
+            quit(player);
+            join();
+        }
+    }
+
+    /**
+     * Converts expected amount of events into actual amount, randomly
+     * rounding fractional part.
+     *
+     * @param   expected
+     *          Expected amount of events
+     * @return  Amount of events to generate
+     */
+    private int events(double expected) {
+        int amount = (int) expected;
+        if (random.nextDouble() < expected - amount) amount++;
+        return amount;
+    }
+
+    private BenchmarkTabPlayer randomPlayer() {
+        if (online.isEmpty()) return null;
+        return online.get(random.nextInt(online.size()));
+    }
+
+    private void probeQueueLatency(@NotNull CpuManager cpu) {
+        long submitted = System.nanoTime();
+        cpu.getProcessingThread().execute(() -> queueLatencies.add(System.nanoTime() - submitted));
+    }
+
+    private void awaitProcessingThread() throws Exception {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        TAB.getInstance().getCPUManager().getProcessingThread().execute(() -> future.complete(null));
+        future.get(1, TimeUnit.MINUTES);
+    }
+
+    private void startMeasurement(@NotNull CpuManager cpu) {
+        platform.getPacketRecorder().reset();
+        for (BenchmarkTabPlayer player : online) {
+            player.getReceivedPackets().reset();
+        }
+        featureBaseline = flatten(cpu.getFeatureUsageCurrent());
+        placeholderBaseline = sum(cpu.getPlaceholderUsageCurrent());
+        sampleCpuPeriods(cpu);
+    }
+
+    private void sampleCpuPeriods(@NotNull CpuManager cpu) {
+        featurePeriods.add(cpu.getFeatureUsageCurrent());
+        placeholderPeriods.add(cpu.getPlaceholderUsageCurrent());
+    }
+
+    @NotNull
+    private SimulationResult createResult(double seconds) {
+        Map<String, Long> featureUsage = new TreeMap<>();
+        for (Map<String, Map<String, AtomicLong>> period : featurePeriods) {
+            flatten(period).forEach((key, value) -> featureUsage.merge(key, value, Long::sum));
+        }
+        featureBaseline.forEach((key, value) -> featureUsage.merge(key, -value, Long::sum));
+        Map<String, Long> placeholderUsage = new TreeMap<>();
+        for (Map<String, AtomicLong> period : placeholderPeriods) {
+            sum(period).forEach((key, value) -> placeholderUsage.merge(key, value, Long::sum));
+        }
+        placeholderBaseline.forEach((key, value) -> placeholderUsage.merge(key, -value, Long::sum));
+        long maxViewerPackets = 0;
+        for (BenchmarkTabPlayer player : online) {
+            maxViewerPackets = Math.max(maxViewerPackets, player.getReceivedPackets().sum());
+        }
+        long[] latencies;
+        synchronized (queueLatencies) {
+            latencies = queueLatencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+        return new SimulationResult(settings.players, seconds, platform.getPacketRecorder().getPackets(),
+                platform.getPacketRecorder().getBytes(), maxViewerPackets, latencies, featureUsage, placeholderUsage);
+    }
+
+    @NotNull
+    private static Map<String, Long> flatten(@NotNull Map<String, Map<String, AtomicLong>> usage) {
+        Map<String, Long> flat = new HashMap<>();
+        for (Map.Entry<String, Map<String, AtomicLong>> feature : usage.entrySet()) {
+            for (Map.Entry<String, AtomicLong> type : feature.getValue().entrySet()) {
+                flat.put(feature.getKey() + " - " + type.getKey(), type.getValue().get());
+            }
+        }
+        return flat;
+    }
+
+    @NotNull
+    private static Map<String, Long> sum(@NotNull Map<String, AtomicLong> usage) {
+        Map<String, Long> values = new HashMap<>();
+        usage.forEach((key, value) -> values.put(key, value.get()));
+        return values;
+    }
+
+    /**
+     * Simulation settings loaded from system properties.
+     */
+    @Getter
+    public static class Settings {
+
+        /** Amount of simulated players */
+        private final int players = Integer.getInteger("tab.simulation.players", 1000);
+
+        /** Seconds over which players join */
+        private final int rampUpSeconds = Integer.getInteger("tab.simulation.rampUpSeconds", 5);
+
+        /** Seconds to wait after all players joined before measuring */
+        private final int settleSeconds = Integer.getInteger("tab.simulation.settleSeconds", 5);
+
+        /** Length of the measurement in seconds */
+        private final int durationSeconds = Integer.getInteger("tab.simulation.durationSeconds", 30);
+
+        /** Amount of player placeholder value changes per second */
+        private final double valueChangesPerSecond = doubleProperty("tab.simulation.valueChangesPerSecond", players / 10d);
+
+        /** Amount of world switches per second */
+        private final double worldSwitchesPerSecond = doubleProperty("tab.simulation.worldSwitchesPerSecond", players / 100d);
+
+        /** Amount of server switches (quit and another player join) per second */
+        private final double serverSwitchesPerSecond = doubleProperty("tab.simulation.serverSwitchesPerSecond", players / 200d);
+
+        /** Seed for random events */
+        private final long seed = Long.getLong("tab.simulation.seed", 0);
+
+        /** Folder with configuration files to use instead of default ones */
+        private final String configFolder = System.getProperty("tab.simulation.config");
+
+        /** Maximum allowed average packets per viewer per second, negative to disable */
+        private final double maxPacketsPerViewerPerSecond = doubleProperty("tab.simulation.maxPacketsPerViewerPerSecond", -1);
+
+        /** Maximum allowed 99th percentile of processing thread queue latency in milliseconds, negative to disable */
+        private final double maxQueueLatencyMillis = doubleProperty("tab.simulation.maxQueueLatencyMillis", -1);
+
+        /** Maximum allowed total CPU usage of features in % of one core, negative to disable */
+        private final double maxCpuPercent = doubleProperty("tab.simulation.maxCpuPercent", -1);
+
+        private static double doubleProperty(@NotNull String name, double defaultValue) {
+            String value = System.getProperty(name);
+            return value == null ? defaultValue : Double.parseDouble(value);
+        }
+    }
+}
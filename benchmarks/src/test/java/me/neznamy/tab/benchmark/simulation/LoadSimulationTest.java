@@ -0,0 +1,25 @@
+package me.neznamy.tab.benchmark.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs {@link LoadSimulation} with settings from system properties, prints
+ * the result and fails if any configured threshold was exceeded. Excluded
+ * from regular test run, executed using {@code :benchmarks:simulate} task.
+ */
+class LoadSimulationTest {
+
+    @Test
+    void simulate() throws Exception {
+        LoadSimulation.Settings settings = new LoadSimulation.Settings();
+        SimulationResult result = new LoadSimulation(settings).run();
+        result.print(System.out);
+        assertTrue(result.getPackets().values().stream().mapToLong(Long::longValue).sum() > 0, "No packets were sent to players");
+        List<String> violations = result.checkThresholds(settings);
+        assertTrue(violations.isEmpty(), () -> "Thresholds exceeded: " + String.join(", ", violations));
+    }
+}
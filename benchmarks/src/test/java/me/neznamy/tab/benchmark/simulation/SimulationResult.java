@@ -0,0 +1,146 @@
+package me.neznamy.tab.benchmark.simulation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of a {@link LoadSimulation}.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SimulationResult {
+
+    /** Amount of simulated players */
+    private final int players;
+
+    /** Length of the measurement in seconds */
+    private final double seconds;
+
+    /** Amount of sent packets by packet type */
+    @NotNull
+    private final Map<String, Long> packets;
+
+    /** Estimated sent bytes by packet type */
+    @NotNull
+    private final Map<String, Long> bytes;
+
+    /** Highest amount of packets received by a single player */
+    private final long maxViewerPackets;
+
+    /** Sorted processing thread queue latencies in nanoseconds */
+    @NotNull
+    private final long[] queueLatencies;
+
+    /** CPU time in nanoseconds by feature and usage type */
+    @NotNull
+    private final Map<String, Long> featureUsage;
+
+    /** CPU time in nanoseconds by placeholder */
+    @NotNull
+    private final Map<String, Long> placeholderUsage;
+
+    /**
+     * Returns average amount of packets each player received per second.
+     *
+     * @return  Average amount of packets per viewer per second
+     */
+    public double getPacketsPerViewerPerSecond() {
+        return total(packets) / seconds / players;
+    }
+
+    /**
+     * Returns highest amount of packets a single player received per second.
+     *
+     * @return  Highest amount of packets per viewer per second
+     */
+    public double getMaxPacketsPerViewerPerSecond() {
+        return maxViewerPackets / seconds;
+    }
+
+    /**
+     * Returns queue latency of processing thread at given percentile.
+     *
+     * @param   percentile
+     *          Percentile from 0 to 100
+     * @return  Queue latency in milliseconds
+     */
+    public double getQueueLatencyMillis(double percentile) {
+        if (queueLatencies.length == 0) return 0;
+        int index = (int) Math.ceil(percentile / 100 * queueLatencies.length) - 1;
+        return queueLatencies[Math.max(0, Math.min(index, queueLatencies.length - 1))] / 1e6;
+    }
+
+    /**
+     * Returns CPU usage of all features in % of one core.
+     *
+     * @return  CPU usage of all features
+     */
+    public double getCpuPercent() {
+        return total(featureUsage) / (seconds * TimeUnit.SECONDS.toNanos(1)) * 100;
+    }
+
+    /**
+     * Checks configured thresholds and returns list of exceeded ones.
+     *
+     * @param   settings
+     *          Simulation settings with thresholds
+     * @return  List of exceeded thresholds, empty if none were exceeded
+     */
+    @NotNull
+    public List<String> checkThresholds(@NotNull LoadSimulation.Settings settings) {
+        List<String> violations = new ArrayList<>();
+        check(violations, "Packets per viewer per second", getPacketsPerViewerPerSecond(), settings.getMaxPacketsPerViewerPerSecond());
+        check(violations, "p99 processing thread queue latency (ms)", getQueueLatencyMillis(99), settings.getMaxQueueLatencyMillis());
+        check(violations, "CPU usage (%)", getCpuPercent(), settings.getMaxCpuPercent());
+        return violations;
+    }
+
+    private void check(@NotNull List<String> violations, @NotNull String name, double value, double max) {
+        if (max >= 0 && value > max) {
+            violations.add(String.format("%s is %.2f, maximum is %.2f", name, value, max));
+        }
+    }
+
+    /**
+     * Prints the result into given stream.
+     *
+     * @param   out
+     *          Stream to print to
+     */
+    public void print(@NotNull PrintStream out) {
+        out.printf("Players: %d, measured for %.1f seconds%n", players, seconds);
+        out.printf("Packets per viewer per second: %.2f average, %.2f max%n", getPacketsPerViewerPerSecond(), getMaxPacketsPerViewerPerSecond());
+        out.printf("Bytes per viewer per second: %.0f%n", total(bytes) / seconds / players);
+        out.printf("Processing thread queue latency: p50 %.2fms, p99 %.2fms, max %.2fms%n",
+                getQueueLatencyMillis(50), getQueueLatencyMillis(99), getQueueLatencyMillis(100));
+        out.printf("CPU usage of features: %.2f%%%n", getCpuPercent());
+        out.println("Packets by type (count / bytes):");
+        for (Map.Entry<String, Long> entry : packets.entrySet()) {
+            out.printf("  %s: %d / %d%n", entry.getKey(), entry.getValue(), bytes.get(entry.getKey()));
+        }
+        out.println("CPU time by feature (ms):");
+        printTimes(out, featureUsage);
+        out.println("CPU time by placeholder (ms):");
+        printTimes(out, placeholderUsage);
+    }
+
+    private void printTimes(@NotNull PrintStream out, @NotNull Map<String, Long> times) {
+        times.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .forEach(entry -> out.printf("  %s: %.2f%n", entry.getKey(), entry.getValue() / 1e6));
+    }
+
+    private static double total(@NotNull Map<String, Long> values) {
+        long total = 0;
+        for (long value : values.values()) total += value;
+        return total;
+    }
+}
@@ -0,0 +1,61 @@
+package me.neznamy.tab.benchmark;
+
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.api.bossbar.BarColor;
+import me.neznamy.tab.api.bossbar.BarStyle;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.platform.decorators.SafeBossBar;
+import org.jetbrains.annotations.NotNull;
+
+import static me.neznamy.tab.benchmark.PacketRecorder.*;
+
+/**
+ * BossBar implementation which records sent packets.
+ */
+@RequiredArgsConstructor
+public class BenchmarkBossBar extends SafeBossBar<Object> {
+
+    /** Player this BossBar view belongs to */
+    @NotNull
+    private final BenchmarkTabPlayer player;
+
+    @Override
+    @NotNull
+    public Object constructBossBar(@NotNull TabComponent title, float progress, @NotNull BarColor color, @NotNull BarStyle style) {
+        return new Object();
+    }
+
+    @Override
+    public void create(@NotNull BossBarInfo bar) {
+        record("BossBar:Add", UUID_SIZE + 1 + size(player, bar.getTitle()) + INT_SIZE * 3 + 1);
+    }
+
+    @Override
+    public void updateTitle(@NotNull BossBarInfo bar) {
+        record("BossBar:UpdateTitle", UUID_SIZE + 1 + size(player, bar.getTitle()));
+    }
+
+    @Override
+    public void updateProgress(@NotNull BossBarInfo bar) {
+        record("BossBar:UpdateProgress", UUID_SIZE + 1 + INT_SIZE);
+    }
+
+    @Override
+    public void updateStyle(@NotNull BossBarInfo bar) {
+        record("BossBar:UpdateStyle", UUID_SIZE + 1 + INT_SIZE * 2);
+    }
+
+    @Override
+    public void updateColor(@NotNull BossBarInfo bar) {
+        record("BossBar:UpdateStyle", UUID_SIZE + 1 + INT_SIZE * 2);
+    }
+
+    @Override
+    public void remove(@NotNull BossBarInfo bar) {
+        record("BossBar:Remove", UUID_SIZE + 1);
+    }
+
+    private void record(@NotNull String type, int size) {
+        player.getPlatform().getPacketRecorder().record(player, type, size);
+    }
+}
@@ -0,0 +1,80 @@
+package me.neznamy.tab.benchmark;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots a headless plugin instance with default configuration
+ * using {@link BenchmarkPlatform}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BenchmarkEnvironment {
+
+    /** Platform of the running instance, {@code null} if not started yet */
+    private static BenchmarkPlatform platform;
+
+    /** Counter for generating unique player names */
+    private static int playerCounter;
+
+    /**
+     * Starts the plugin if it is not running yet and returns the platform.
+     *
+     * @return  Platform of the running instance
+     * @throws  IllegalStateException
+     *          If plugin failed to enable
+     */
+    @NotNull
+    public static synchronized BenchmarkPlatform start() {
+        if (platform != null) return platform;
+        File dataFolder;
+        try {
+            dataFolder = Files.createTempDirectory("tab-benchmark").toFile();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create data folder", e);
+        }
+        platform = new BenchmarkPlatform(dataFolder);
+        TAB.create(platform);
+        if (TAB.getInstance().isPluginDisabled()) {
+            throw new IllegalStateException("Plugin failed to enable, check " + dataFolder + " for error logs");
+        }
+        return platform;
+    }
+
+    /**
+     * Creates given amount of players in the default world and processes their join.
+     *
+     * @param   amount
+     *          Amount of players to add
+     * @return  List of added players
+     */
+    @NotNull
+    public static synchronized List<BenchmarkTabPlayer> addPlayers(int amount) {
+        BenchmarkPlatform platform = start();
+        List<BenchmarkTabPlayer> players = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            BenchmarkTabPlayer player = new BenchmarkTabPlayer(platform, "Player" + playerCounter++, "world");
+            TAB.getInstance().getFeatureManager().onJoin(player);
+            players.add(player);
+        }
+        return players;
+    }
+
+    /**
+     * Processes quit of all online players.
+     */
+    public static synchronized void removePlayers() {
+        start();
+        for (TabPlayer player : TAB.getInstance().getOnlinePlayers()) {
+            TAB.getInstance().getFeatureManager().onQuit(player);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package me.neznamy.tab.benchmark;
+
+import me.neznamy.tab.shared.hook.PermissionChangeSource;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Fake permission plugin notifying about group changes the same way
+ * as LuckPerms does, used to test push-based group refreshing.
+ */
+public class BenchmarkPermissions implements PermissionChangeSource {
+
+    /** Groups from default sorting configuration which are assigned to players */
+    private static final String[] GROUPS = {"owner", "admin", "mod", "helper", "builder", "vip", "default"};
+
+    /** Groups explicitly set to players */
+    private final Map<UUID, String> groups = new ConcurrentHashMap<>();
+
+    /** Listeners to call on group change */
+    private final List<Consumer<UUID>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns group of specified player. Players without explicitly set group
+     * get one of the default groups based on their name.
+     *
+     * @param   player
+     *          Player to get group of
+     * @return  Group of the player
+     */
+    @NotNull
+    public String getGroup(@NotNull TabPlayer player) {
+        String group = groups.get(player.getUniqueId());
+        if (group != null) return group;
+        return GROUPS[(player.getName().hashCode() & Integer.MAX_VALUE) % GROUPS.length];
+    }
+
+    /**
+     * Changes group of specified player and notifies listeners.
+     *
+     * @param   player
+     *          UUID of player to change group of
+     * @param   group
+     *          New group of the player
+     */
+    public void setGroup(@NotNull UUID player, @NotNull String group) {
+        groups.put(player, group);
+        for (Consumer<UUID> listener : listeners) {
+            listener.accept(player);
+        }
+    }
+
+    @Override
+    public void subscribe(@NotNull Consumer<UUID> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void unsubscribe() {
+        listeners.clear();
+    }
+}
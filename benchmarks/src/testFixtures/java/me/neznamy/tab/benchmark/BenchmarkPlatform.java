@@ -0,0 +1,147 @@
+package me.neznamy.tab.benchmark;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.shared.GroupManager;
+import me.neznamy.tab.shared.ProtocolVersion;
+import me.neznamy.tab.shared.backend.BackendPlatform;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.config.files.config.PerWorldPlayerListConfiguration;
+import me.neznamy.tab.shared.features.injection.PipelineInjector;
+import me.neznamy.tab.shared.features.types.TabFeature;
+import me.neznamy.tab.shared.placeholders.expansion.EmptyTabExpansion;
+import me.neznamy.tab.shared.placeholders.expansion.TabExpansion;
+import me.neznamy.tab.shared.platform.BossBar;
+import me.neznamy.tab.shared.platform.Scoreboard;
+import me.neznamy.tab.shared.platform.TabList;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+
+/**
+ * Headless platform without any server behind it, used to run
+ * the plugin in benchmarks.
+ */
+@RequiredArgsConstructor
+public class BenchmarkPlatform implements BackendPlatform {
+
+    /** Folder with configuration files */
+    @Getter
+    @NotNull
+    private final File dataFolder;
+
+    /** Fake permission plugin providing groups of players */
+    @Getter
+    private final BenchmarkPermissions permissions = new BenchmarkPermissions();
+
+    /** Recorder of packets sent to players */
+    @Getter
+    private final PacketRecorder packetRecorder = new PacketRecorder();
+
+    @Override
+    @NotNull
+    public GroupManager detectPermissionPlugin() {
+        return new GroupManager("Benchmark", permissions::getGroup, permissions);
+    }
+
+    @Override
+    public void registerUnknownPlaceholder(@NotNull String identifier) {
+        registerDummyPlaceholder(identifier);
+    }
+
+    @Override
+    public void loadPlayers() {
+        // Players are added by benchmarks
+    }
+
+    @Override
+    @Nullable
+    public PipelineInjector createPipelineInjector() {
+        return null;
+    }
+
+    @Override
+    @NotNull
+    public TabExpansion createTabExpansion() {
+        return new EmptyTabExpansion();
+    }
+
+    @Override
+    @Nullable
+    public TabFeature getPerWorldPlayerList(@NotNull PerWorldPlayerListConfiguration configuration) {
+        return null;
+    }
+
+    @Override
+    public void logInfo(@NotNull TabComponent message) {
+        // Keep benchmark output clean
+    }
+
+    @Override
+    public void logWarn(@NotNull TabComponent message) {
+        System.err.println("[TAB] [WARN] " + message.toLegacyText());
+    }
+
+    @Override
+    @NotNull
+    public String getServerVersionInfo() {
+        return "[Benchmark]";
+    }
+
+    @Override
+    public void registerListener() {
+        // No events
+    }
+
+    @Override
+    public void registerCommand() {
+        // No commands
+    }
+
+    @Override
+    public void startMetrics() {
+        // No metrics
+    }
+
+    @Override
+    @NotNull
+    public Object convertComponent(@NotNull TabComponent component, boolean modern) {
+        return component;
+    }
+
+    @Override
+    @NotNull
+    public Scoreboard createScoreboard(@NotNull TabPlayer player) {
+        return new BenchmarkScoreboard((BenchmarkTabPlayer) player);
+    }
+
+    @Override
+    @NotNull
+    public BossBar createBossBar(@NotNull TabPlayer player) {
+        return new BenchmarkBossBar((BenchmarkTabPlayer) player);
+    }
+
+    @Override
+    @NotNull
+    public TabList createTabList(@NotNull TabPlayer player) {
+        return new BenchmarkTabList((BenchmarkTabPlayer) player);
+    }
+
+    @Override
+    @NotNull
+    public ProtocolVersion getServerVersion() {
+        return ProtocolVersion.LATEST_KNOWN_VERSION;
+    }
+
+    @Override
+    public double getTPS() {
+        return 20;
+    }
+
+    @Override
+    public double getMSPT() {
+        return 5;
+    }
+}
@@ -0,0 +1,88 @@
+package me.neznamy.tab.benchmark;
+
+import lombok.NonNull;
+import me.neznamy.tab.shared.platform.decorators.SafeScoreboard;
+import org.jetbrains.annotations.NotNull;
+
+import static me.neznamy.tab.benchmark.PacketRecorder.*;
+
+/**
+ * Scoreboard implementation which records sent packets.
+ */
+public class BenchmarkScoreboard extends SafeScoreboard<BenchmarkTabPlayer> {
+
+    /**
+     * Constructs new instance with given player.
+     *
+     * @param   player
+     *          Player this scoreboard will belong to
+     */
+    public BenchmarkScoreboard(@NonNull BenchmarkTabPlayer player) {
+        super(player);
+    }
+
+    @Override
+    public void registerObjective(@NonNull Objective objective) {
+        record("Objective:Register", objectiveSize(objective));
+        record("DisplayObjective", INT_SIZE + size(objective.getName()));
+    }
+
+    @Override
+    public void unregisterObjective(@NonNull Objective objective) {
+        record("Objective:Unregister", size(objective.getName()) + 1);
+    }
+
+    @Override
+    public void updateObjective(@NonNull Objective objective) {
+        record("Objective:Update", objectiveSize(objective));
+    }
+
+    @Override
+    public void setScore(@NonNull Score score) {
+        record("Score:Set", size(score.getHolder()) + size(score.getObjective().getName()) + INT_SIZE
+                + size(player, score.getDisplayName()) + size(player, score.getNumberFormat()));
+    }
+
+    @Override
+    public void removeScore(@NonNull Score score) {
+        record("Score:Remove", size(score.getHolder()) + size(score.getObjective().getName()));
+    }
+
+    @Override
+    @NotNull
+    public Object createTeam(@NonNull String name) {
+        return new Object();
+    }
+
+    @Override
+    public void registerTeam(@NonNull Team team) {
+        int size = teamSize(team) + INT_SIZE;
+        for (String entry : team.getPlayers()) {
+            size += size(entry);
+        }
+        record("Teams:Create", size);
+    }
+
+    @Override
+    public void unregisterTeam(@NonNull Team team) {
+        record("Teams:Remove", size(team.getName()) + 1);
+    }
+
+    @Override
+    public void updateTeam(@NonNull Team team) {
+        record("Teams:Update", teamSize(team));
+    }
+
+    private int objectiveSize(@NonNull Objective objective) {
+        return size(objective.getName()) + 1 + size(player, objective.getTitle()) + INT_SIZE + size(player, objective.getNumberFormat());
+    }
+
+    private int teamSize(@NonNull Team team) {
+        return size(team.getName()) + 1 + size(player, team.getPrefix()) + size(player, team.getSuffix())
+                + size(team.getVisibility().toString()) + size(team.getCollision().toString()) + 2 + INT_SIZE;
+    }
+
+    private void record(@NotNull String type, int size) {
+        player.getPlatform().getPacketRecorder().record(player, type, size);
+    }
+}
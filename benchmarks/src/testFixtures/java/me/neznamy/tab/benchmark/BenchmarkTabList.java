@@ -0,0 +1,85 @@
+package me.neznamy.tab.benchmark;
+
+import lombok.NonNull;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.platform.decorators.TrackedTabList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static me.neznamy.tab.benchmark.PacketRecorder.*;
+
+/**
+ * TabList implementation which remembers entry names and records sent packets.
+ */
+public class BenchmarkTabList extends TrackedTabList<BenchmarkTabPlayer, TabComponent> {
+
+    /** Entries in the tablist */
+    private final Map<UUID, String> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs new instance.
+     *
+     * @param   player
+     *          Player this tablist will belong to
+     */
+    public BenchmarkTabList(@NotNull BenchmarkTabPlayer player) {
+        super(player);
+    }
+
+    @Override
+    public void removeEntry0(@NonNull UUID entry) {
+        entries.remove(entry);
+        record("PlayerInfoRemove", UUID_SIZE);
+    }
+
+    @Override
+    public void updateDisplayName(@NonNull UUID entry, @Nullable TabComponent displayName) {
+        record("PlayerInfoUpdate:DisplayName", UUID_SIZE + size(player, displayName));
+    }
+
+    @Override
+    public void updateLatency0(@NonNull UUID entry, int latency) {
+        record("PlayerInfoUpdate:Latency", UUID_SIZE + INT_SIZE);
+    }
+
+    @Override
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
+        record("PlayerInfoUpdate:GameMode", UUID_SIZE + INT_SIZE);
+    }
+
+    @Override
+    public void updateListed(@NonNull UUID entry, boolean listed) {
+        record("PlayerInfoUpdate:Listed", UUID_SIZE + 1);
+    }
+
+    @Override
+    public void updateListOrder(@NonNull UUID entry, int listOrder) {
+        record("PlayerInfoUpdate:ListOrder", UUID_SIZE + INT_SIZE);
+    }
+
+    @Override
+    public void addEntry(@NonNull UUID id, @NonNull String name, @Nullable Skin skin, boolean listed, int latency,
+                         int gameMode, @Nullable TabComponent displayName, int listOrder) {
+        entries.put(id, name);
+        int skinSize = skin == null ? 1 : size(skin.getValue()) + size(skin.getSignature());
+        record("PlayerInfoUpdate:AddPlayer", UUID_SIZE + size(name) + skinSize + 1 + INT_SIZE * 3 + size(player, displayName));
+    }
+
+    @Override
+    public boolean containsEntry(@NonNull UUID entry) {
+        return entries.containsKey(entry);
+    }
+
+    @Override
+    public void setPlayerListHeaderFooter(@NonNull TabComponent header, @NonNull TabComponent footer) {
+        record("PlayerListHeaderFooter", size(player, header) + size(player, footer));
+    }
+
+    private void record(@NotNull String type, int size) {
+        player.getPlatform().getPacketRecorder().record(player, type, size);
+    }
+}
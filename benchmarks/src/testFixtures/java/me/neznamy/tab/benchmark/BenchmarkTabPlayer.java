@@ -0,0 +1,97 @@
+package me.neznamy.tab.benchmark;
+
+import lombok.Getter;
+import lombok.Setter;
+import me.neznamy.tab.shared.backend.BackendTabPlayer;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.platform.TabList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Player without any connection behind it.
+ */
+@Getter
+@Setter
+public class BenchmarkTabPlayer extends BackendTabPlayer {
+
+    /** Amount of packets received by this player */
+    private final LongAdder receivedPackets = new LongAdder();
+
+    /** Player's gamemode */
+    private int gamemode;
+
+    /** Player's ping */
+    private int ping = 50;
+
+    /** Player's health */
+    private double health = 20;
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   platform
+     *          Benchmark platform
+     * @param   name
+     *          Player's name
+     * @param   world
+     *          Player's world
+     */
+    public BenchmarkTabPlayer(@NotNull BenchmarkPlatform platform, @NotNull String name, @NotNull String world) {
+        super(platform, name, UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)), name, world,
+                platform.getServerVersion().getNetworkId());
+    }
+
+    @Override
+    public boolean isDisguised() {
+        return false;
+    }
+
+    @Override
+    public boolean hasInvisibilityPotion() {
+        return false;
+    }
+
+    @Override
+    public boolean isVanished0() {
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public TabList.Skin getSkin() {
+        return null;
+    }
+
+    @Override
+    public void sendMessage(@NotNull TabComponent message) {
+        // No connection
+    }
+
+    @Override
+    public boolean hasPermission(@NotNull String permission) {
+        return false;
+    }
+
+    @Override
+    @NotNull
+    public String getDisplayName() {
+        return getName();
+    }
+
+    @Override
+    @NotNull
+    public BenchmarkPlatform getPlatform() {
+        return (BenchmarkPlatform) platform;
+    }
+
+    @Override
+    @NotNull
+    public String getPlayer() {
+        return (String) player;
+    }
+}
@@ -0,0 +1,109 @@
+package me.neznamy.tab.benchmark;
+
+import me.neznamy.tab.shared.chat.TabComponent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records packets "sent" by fake platform implementations. Packet sizes are
+ * estimated from packet content, using serialized json for components.
+ */
+public class PacketRecorder {
+
+    /** Size of a UUID in a packet */
+    public static final int UUID_SIZE = 16;
+
+    /** Size of an int in a packet, not using VarInt for simplicity */
+    public static final int INT_SIZE = 4;
+
+    /** Amount of sent packets by packet type */
+    private final Map<String, LongAdder> packets = new ConcurrentHashMap<>();
+
+    /** Estimated sent bytes by packet type */
+    private final Map<String, LongAdder> bytes = new ConcurrentHashMap<>();
+
+    /**
+     * Records a sent packet.
+     *
+     * @param   viewer
+     *          Player the packet was sent to
+     * @param   type
+     *          Packet type
+     * @param   size
+     *          Estimated packet size in bytes
+     */
+    public void record(@NotNull BenchmarkTabPlayer viewer, @NotNull String type, int size) {
+        packets.computeIfAbsent(type, t -> new LongAdder()).increment();
+        bytes.computeIfAbsent(type, t -> new LongAdder()).add(size);
+        viewer.getReceivedPackets().increment();
+    }
+
+    /**
+     * Returns estimated size of a string in a packet.
+     *
+     * @param   string
+     *          String to get size of
+     * @return  Estimated size of the string in bytes
+     */
+    public static int size(@Nullable String string) {
+        if (string == null) return 1;
+        return string.getBytes(StandardCharsets.UTF_8).length + 1;
+    }
+
+    /**
+     * Returns estimated size of a component in a packet for given viewer.
+     *
+     * @param   viewer
+     *          Player the component is sent to
+     * @param   component
+     *          Component to get size of
+     * @return  Estimated size of the component in bytes
+     */
+    public static int size(@NotNull BenchmarkTabPlayer viewer, @Nullable TabComponent component) {
+        if (component == null) return 1;
+        return size(component.serialize(viewer.getVersion()));
+    }
+
+    /**
+     * Returns amount of sent packets by packet type.
+     *
+     * @return  Amount of sent packets by packet type
+     */
+    @NotNull
+    public Map<String, Long> getPackets() {
+        return snapshot(packets);
+    }
+
+    /**
+     * Returns estimated amount of sent bytes by packet type.
+     *
+     * @return  Estimated amount of sent bytes by packet type
+     */
+    @NotNull
+    public Map<String, Long> getBytes() {
+        return snapshot(bytes);
+    }
+
+    /**
+     * Resets all counters.
+     */
+    public void reset() {
+        packets.clear();
+        bytes.clear();
+    }
+
+    @NotNull
+    private Map<String, Long> snapshot(@NotNull Map<String, LongAdder> map) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : map.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().sum());
+        }
+        return snapshot;
+    }
+}
@@ -135,6 +135,13 @@ public class PaperPacketScoreboard extends SafeScoreboard<BukkitTabPlayer> {
         t.setPlayerSuffix(team.getSuffix().convert(player.getVersion()));
     }
 
+    @Override
+    public boolean isPacketTracked(@NonNull Class<?> packetClass) {
+        return ClientboundSetDisplayObjectivePacket.class.isAssignableFrom(packetClass) ||
+                ClientboundSetObjectivePacket.class.isAssignableFrom(packetClass) ||
+                ClientboundSetPlayerTeamPacket.class.isAssignableFrom(packetClass);
+    }
+
     @Override
     @SneakyThrows
     public void onPacketSend(@NonNull Object packet) {
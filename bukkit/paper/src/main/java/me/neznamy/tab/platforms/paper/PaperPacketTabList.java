@@ -56,7 +56,7 @@ public class PaperPacketTabList extends TabListBase<Component> {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
         sendPacket(new ClientboundPlayerInfoRemovePacket(Collections.singletonList(entry)));
     }
 
@@ -68,14 +68,14 @@ public class PaperPacketTabList extends TabListBase<Component> {
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
+    public void updateLatency0(@NonNull UUID entry, int latency) {
         sendPacket(new ClientboundPlayerInfoUpdatePacket(updateLatency, new ClientboundPlayerInfoUpdatePacket.Entry(
                 entry, null, false, latency, null, null, null
         )));
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
         sendPacket(new ClientboundPlayerInfoUpdatePacket(updateGameMode, new ClientboundPlayerInfoUpdatePacket.Entry(
                 entry, null, false, 0, GameType.byId(gameMode), null, null
         )));
@@ -107,6 +107,11 @@ public class PaperPacketTabList extends TabListBase<Component> {
         sendPacket(new ClientboundTabListPacket(header.convert(player.getVersion()), footer.convert(player.getVersion())));
     }
 
+    @Override
+    public boolean isPacketTracked(@NonNull Class<?> packetClass) {
+        return ClientboundPlayerInfoUpdatePacket.class.isAssignableFrom(packetClass);
+    }
+
     @Override
     @SneakyThrows
     public void onPacketSend(@NonNull Object packet) {
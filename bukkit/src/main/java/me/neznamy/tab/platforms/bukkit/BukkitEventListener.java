@@ -2,6 +2,7 @@ package me.neznamy.tab.platforms.bukkit;
 
 import me.neznamy.tab.platforms.bukkit.platform.BukkitPlatform;
 import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.platform.EventListener;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.bukkit.entity.Player;
@@ -10,6 +11,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerGameModeChangeEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.jetbrains.annotations.NotNull;
@@ -63,6 +65,17 @@ public class BukkitEventListener implements EventListener<Player>, Listener {
         if (command(e.getPlayer().getUniqueId(), e.getMessage())) e.setCancelled(true);
     }
 
+    /**
+     * Listens to gamemode change event.
+     *
+     * @param   e
+     *          Gamemode change event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onGameModeChange(PlayerGameModeChangeEvent e) {
+        playerStateChange(e.getPlayer().getUniqueId(), TabConstants.Placeholder.GAMEMODE);
+    }
+
     @Override
     @NotNull
     public TabPlayer createPlayer(@NotNull Player player) {
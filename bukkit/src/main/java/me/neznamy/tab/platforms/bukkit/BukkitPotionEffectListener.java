@@ -0,0 +1,36 @@
+package me.neznamy.tab.platforms.bukkit;
+
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.shared.TabConstants;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPotionEffectEvent;
+import org.bukkit.potion.PotionEffectType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener for potion effect changes, registered separately because
+ * the event only exists on 1.13+.
+ */
+@RequiredArgsConstructor
+public class BukkitPotionEffectListener implements Listener {
+
+    /** Main event listener to forward changes to */
+    @NotNull
+    private final BukkitEventListener listener;
+
+    /**
+     * Listens to potion effect change event to update invisibility status.
+     *
+     * @param   e
+     *          Potion effect change event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPotionEffectChange(EntityPotionEffectEvent e) {
+        if (!(e.getEntity() instanceof Player)) return;
+        if (!PotionEffectType.INVISIBILITY.equals(e.getModifiedType())) return;
+        listener.playerStateChange(e.getEntity().getUniqueId(), TabConstants.Placeholder.INVISIBLE);
+    }
+}
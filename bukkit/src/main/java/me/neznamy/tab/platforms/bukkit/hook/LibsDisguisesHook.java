@@ -13,6 +13,15 @@ public class LibsDisguisesHook {
     /** Flag tracking if LibsDisguises is installed or not */
     private static boolean installed = ReflectionUtils.classExists("me.libraryaddict.disguise.DisguiseAPI");
 
+    /**
+     * Returns {@code true} if LibsDisguises is installed, {@code false} if not.
+     *
+     * @return  {@code true} if installed, {@code false} if not
+     */
+    public static boolean isInstalled() {
+        return installed;
+    }
+
     /**
      * Returns {@code true} if LibsDisguises is installed and player is disguised,
      * {@code false} otherwise.
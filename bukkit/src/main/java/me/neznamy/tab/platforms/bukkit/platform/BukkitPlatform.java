@@ -8,6 +8,7 @@ import me.neznamy.tab.platforms.bukkit.bossbar.BukkitBossBar;
 import me.neznamy.tab.platforms.bukkit.bossbar.ViaBossBar;
 import me.neznamy.tab.platforms.bukkit.header.HeaderFooter;
 import me.neznamy.tab.platforms.bukkit.hook.BukkitPremiumVanishHook;
+import me.neznamy.tab.platforms.bukkit.hook.LibsDisguisesHook;
 import me.neznamy.tab.platforms.bukkit.nms.BukkitReflection;
 import me.neznamy.tab.platforms.bukkit.nms.converter.ComponentConverter;
 import me.neznamy.tab.platforms.bukkit.nms.PingRetriever;
@@ -83,6 +84,9 @@ public class BukkitPlatform implements BackendPlatform {
     /** Detection for presence of Paper's MSPT getter */
     private final boolean paperMspt = ReflectionUtils.methodExists(Bukkit.class, "getAverageTickTime");
 
+    /** Detection for presence of potion effect event (1.13+) */
+    private final boolean potionEffectEvent = ReflectionUtils.classExists("org.bukkit.event.entity.EntityPotionEffectEvent");
+
     /**
      * Constructs new instance with given plugin.
      *
@@ -225,7 +229,26 @@ public class BukkitPlatform implements BackendPlatform {
 
     @Override
     public void registerListener() {
-        Bukkit.getPluginManager().registerEvents(new BukkitEventListener(), plugin);
+        BukkitEventListener listener = new BukkitEventListener();
+        Bukkit.getPluginManager().registerEvents(listener, plugin);
+        if (potionEffectEvent) {
+            Bukkit.getPluginManager().registerEvents(new BukkitPotionEffectListener(listener), plugin);
+        }
+    }
+
+    @Override
+    public boolean hasStateChangeEvent(@NotNull String placeholder) {
+        switch (placeholder) {
+            case TabConstants.Placeholder.GAMEMODE:
+                return true;
+            case TabConstants.Placeholder.INVISIBLE:
+                return potionEffectEvent;
+            case TabConstants.Placeholder.COLLISION:
+                // Disguise status is polled
+                return !LibsDisguisesHook.isInstalled();
+            default:
+                return false;
+        }
     }
 
     @Override
@@ -1,5 +1,6 @@
 package me.neznamy.tab.platforms.bukkit.scoreboard.packet;
 
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import me.neznamy.tab.platforms.bukkit.nms.BukkitReflection;
@@ -16,7 +17,7 @@ import java.lang.reflect.Field;
  */
 public class DisplayPacketData {
 
-    private final Class<?> DisplayObjectiveClass;
+    @Getter private final Class<?> DisplayObjectiveClass;
     private final Constructor<?> newDisplayObjective;
     private final Field DisplayObjective_OBJECTIVE_NAME;
     private final Object[] displaySlots;
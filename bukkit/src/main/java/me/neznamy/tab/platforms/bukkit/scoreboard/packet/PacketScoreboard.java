@@ -171,6 +171,13 @@ public class PacketScoreboard extends SafeScoreboard<BukkitTabPlayer> {
         packetSender.sendPacket(player, teamPacketData.updateTeam(team, player.getVersion()));
     }
 
+    @Override
+    public boolean isPacketTracked(@NonNull Class<?> packetClass) {
+        return ObjectivePacketClass.isAssignableFrom(packetClass) ||
+                displayPacketData.getDisplayObjectiveClass().isAssignableFrom(packetClass) ||
+                teamPacketData.getTeamPacketClass().isAssignableFrom(packetClass);
+    }
+
     @Override
     @SneakyThrows
     public void onPacketSend(@NonNull Object packet) {
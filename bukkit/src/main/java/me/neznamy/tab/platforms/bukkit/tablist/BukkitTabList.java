@@ -25,7 +25,7 @@ public class BukkitTabList extends TabListBase<String> {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
         // Shrug
     }
 
@@ -38,12 +38,12 @@ public class BukkitTabList extends TabListBase<String> {
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
+    public void updateLatency0(@NonNull UUID entry, int latency) {
         // Shrug
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
         // Shrug
     }
 
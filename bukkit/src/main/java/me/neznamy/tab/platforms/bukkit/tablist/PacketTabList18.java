@@ -110,7 +110,7 @@ public class PacketTabList18 extends TabListBase<Object> {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
         packetSender.sendPacket(player,
                 createPacket(Action.REMOVE_PLAYER, entry, "", null, false, 0, 0, null, 0));
     }
@@ -122,13 +122,13 @@ public class PacketTabList18 extends TabListBase<Object> {
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
+    public void updateLatency0(@NonNull UUID entry, int latency) {
         packetSender.sendPacket(player,
                 createPacket(Action.UPDATE_LATENCY, entry, "", null, false, latency, 0, null, 0));
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
         packetSender.sendPacket(player,
                 createPacket(Action.UPDATE_GAME_MODE, entry, "", null, false, 0, gameMode, null, 0));
     }
@@ -212,6 +212,11 @@ public class PacketTabList18 extends TabListBase<Object> {
         return profile;
     }
 
+    @Override
+    public boolean isPacketTracked(@NonNull Class<?> packetClass) {
+        return PlayerInfoClass.isAssignableFrom(packetClass);
+    }
+
     @Override
     @SneakyThrows
     public void onPacketSend(@NonNull Object packet) {
@@ -139,6 +139,12 @@ public class BungeeScoreboard extends SafeScoreboard<BungeeTabPlayer> {
         ));
     }
 
+    @Override
+    public boolean isPacketTracked(@NonNull Class<?> packetClass) {
+        return ScoreboardDisplay.class.isAssignableFrom(packetClass) || ScoreboardObjective.class.isAssignableFrom(packetClass) ||
+                net.md_5.bungee.protocol.packet.Team.class.isAssignableFrom(packetClass);
+    }
+
     @Override
     public void onPacketSend(@NonNull Object packet) {
         if (isAntiOverrideScoreboard()) {
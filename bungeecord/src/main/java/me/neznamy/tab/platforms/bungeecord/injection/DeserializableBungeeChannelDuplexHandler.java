@@ -10,7 +10,6 @@ import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.util.ReflectionUtils;
 import net.md_5.bungee.UserConnection;
-import net.md_5.bungee.api.connection.ProxiedPlayer;
 import net.md_5.bungee.netty.ChannelWrapper;
 import net.md_5.bungee.protocol.DefinedPacket;
 import net.md_5.bungee.protocol.Protocol;
@@ -21,6 +20,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -33,14 +34,14 @@ public class DeserializableBungeeChannelDuplexHandler extends BungeeChannelDuple
 
     /** Inaccessible bungee internals */
     @Nullable
-    private static Object directionData;
+    private static Protocol.DirectionData directionData;
 
     @Nullable
     private static Method getId;
 
     static {
         try {
-            directionData = ReflectionUtils.setAccessible(Protocol.class.getDeclaredField("TO_CLIENT")).get(Protocol.GAME);
+            directionData = (Protocol.DirectionData) ReflectionUtils.setAccessible(Protocol.class.getDeclaredField("TO_CLIENT")).get(Protocol.GAME);
             getId = ReflectionUtils.setAccessible(Protocol.DirectionData.class.getDeclaredMethod("getId", Class.class, int.class));
         } catch (ReflectiveOperationException exception) {
             TAB.getInstance().getErrorManager().criticalError("Failed to initialize bungee internal fields", exception);
@@ -49,10 +50,25 @@ public class DeserializableBungeeChannelDuplexHandler extends BungeeChannelDuple
 
     /** Packets used by the plugin that must be deserialized and BungeeCord does not do it automatically */
     @NotNull
-    private final Class<? extends DefinedPacket>[] extraPacketClasses = new Class[]{Team.class, ScoreboardDisplay.class, ScoreboardObjective.class};
+    private static final Class<? extends DefinedPacket>[] extraPacketClasses = new Class[]{Team.class, ScoreboardDisplay.class, ScoreboardObjective.class};
 
     @NotNull
-    private final Supplier<DefinedPacket>[] extraPacketSuppliers = new Supplier[]{Team::new, ScoreboardDisplay::new, ScoreboardObjective::new};
+    private static final Supplier<DefinedPacket>[] extraPacketSuppliers = new Supplier[]{Team::new, ScoreboardDisplay::new, ScoreboardObjective::new};
+
+    /** Packet suppliers indexed by packet id, built once per protocol version */
+    @NotNull
+    private static final Map<Integer, Supplier<DefinedPacket>[]> packetTables = new ConcurrentHashMap<>();
+
+    /** Player's channel wrapper for checking current encode protocol */
+    @NotNull
+    private final ChannelWrapper channel;
+
+    /** Player's protocol version */
+    private final int protocolVersion;
+
+    /** Packet suppliers of this player's protocol version indexed by packet id */
+    @NotNull
+    private final Supplier<DefinedPacket>[] packetTable;
 
     /**
      * Constructs new instance with given player
@@ -62,41 +78,69 @@ public class DeserializableBungeeChannelDuplexHandler extends BungeeChannelDuple
      */
     public DeserializableBungeeChannelDuplexHandler(@NotNull TabPlayer player) {
         super(player);
+        channel = ((UserConnection) ((BungeeTabPlayer) player).getPlayer()).getCh();
+        protocolVersion = ((BungeeTabPlayer) player).getPlayer().getPendingConnection().getVersion();
+        packetTable = packetTables.computeIfAbsent(protocolVersion, DeserializableBungeeChannelDuplexHandler::buildPacketTable);
     }
 
     @Override
     public void write(@NotNull ChannelHandlerContext context, @NotNull Object packet, @NotNull ChannelPromise channelPromise) {
-        long time = System.nanoTime();
-        Object modifiedPacket = packet instanceof ByteBuf ? deserialize((ByteBuf) packet) : packet;
-        TAB.getInstance().getCPUManager().addTime(TabConstants.Feature.PACKET_DESERIALIZING, TabConstants.CpuUsageCategory.BYTE_BUF, System.nanoTime()-time);
-        super.write(context, modifiedPacket, channelPromise);
+        if (packet instanceof ByteBuf) {
+            Supplier<DefinedPacket> supplier = getSupplier((ByteBuf) packet);
+            if (supplier != null) {
+                long time = System.nanoTime();
+                Object modifiedPacket = deserialize((ByteBuf) packet, supplier);
+                TAB.getInstance().getCPUManager().addTime(TabConstants.Feature.PACKET_DESERIALIZING, TabConstants.CpuUsageCategory.BYTE_BUF, System.nanoTime()-time);
+                super.write(context, modifiedPacket, channelPromise);
+                return;
+            }
+        }
+        super.write(context, packet, channelPromise);
     }
 
     /**
-     * Deserializes byte buf in case it is one of the tracked packets coming from backend server and returns it.
-     * If the packet is not one of them, returns input
+     * Reads packet id of the byte buf and returns supplier of the packet if it is one of
+     * the tracked packets. If it is not, returns {@code null}. Reader index of the buffer is
+     * left unchanged.
+     *
+     * @param   buf
+     *          byte buf to check
+     * @return  supplier of tracked packet or {@code null} if packet is not tracked
+     */
+    @Nullable
+    private Supplier<DefinedPacket> getSupplier(@NotNull ByteBuf buf) {
+        if (channel.getEncodeProtocol() != Protocol.GAME) return null;
+        int marker = buf.readerIndex();
+        try {
+            int packetId = DefinedPacket.readVarInt(buf);
+            return packetId >= 0 && packetId < packetTable.length ? packetTable[packetId] : null;
+        } catch (Exception e) {
+            //rare OverflowPacketException or IndexOutOfBoundsException
+            return null;
+        } finally {
+            buf.readerIndex(marker);
+        }
+    }
+
+    /**
+     * Deserializes byte buf using given packet supplier and returns the packet.
+     * If deserialization fails, returns input.
      *
      * @param   buf
      *          byte buf to deserialize
-     * @return  deserialized packet or input byte buf if packet is not tracked
+     * @param   supplier
+     *          Supplier of the packet the buffer contains
+     * @return  deserialized packet or input byte buf if deserialization failed
      */
     @NotNull
-    private Object deserialize(@NotNull ByteBuf buf) {
+    private Object deserialize(@NotNull ByteBuf buf, @NotNull Supplier<DefinedPacket> supplier) {
         int marker = buf.readerIndex();
         try {
-            int packetId = buf.readByte();
-            for (int i=0; i<extraPacketClasses.length; i++) {
-                ChannelWrapper ch = ((UserConnection) ((BungeeTabPlayer) player).getPlayer()).getCh();
-                if (!ch.getEncodeProtocol().TO_CLIENT.hasPacket(extraPacketClasses[i], ((ProxiedPlayer)player.getPlayer()).getPendingConnection().getVersion())) {
-                    continue;
-                }
-                if (packetId == getPacketId(((BungeeTabPlayer)player).getPlayer().getPendingConnection().getVersion(), extraPacketClasses[i])) {
-                    DefinedPacket packet = extraPacketSuppliers[i].get();
-                    packet.read(buf, null, ((ProxiedPlayer)player.getPlayer()).getPendingConnection().getVersion());
-                    buf.release();
-                    return packet;
-                }
-            }
+            DefinedPacket.readVarInt(buf);
+            DefinedPacket packet = supplier.get();
+            packet.read(buf, null, protocolVersion);
+            buf.release();
+            return packet;
         } catch (Exception e) {
             //rare OverflowPacketException or IndexOutOfBoundsException
         }
@@ -105,7 +149,30 @@ public class DeserializableBungeeChannelDuplexHandler extends BungeeChannelDuple
     }
 
     /**
-     * Returns packet ID of specified packet on the protocol version
+     * Builds table of packet suppliers indexed by packet id for given protocol version.
+     *
+     * @param   protocolVersion
+     *          Protocol version to build the table for
+     * @return  Packet suppliers indexed by packet id
+     */
+    @NotNull
+    private static Supplier<DefinedPacket>[] buildPacketTable(int protocolVersion) {
+        int[] ids = new int[extraPacketClasses.length];
+        int maxId = -1;
+        for (int i=0; i<extraPacketClasses.length; i++) {
+            ids[i] = getPacketId(protocolVersion, extraPacketClasses[i]);
+            maxId = Math.max(maxId, ids[i]);
+        }
+        Supplier<DefinedPacket>[] table = new Supplier[maxId + 1];
+        for (int i=0; i<extraPacketClasses.length; i++) {
+            if (ids[i] != -1) table[ids[i]] = extraPacketSuppliers[i];
+        }
+        return table;
+    }
+
+    /**
+     * Returns packet ID of specified packet on the protocol version or -1 if
+     * the packet does not exist on given version.
      *
      * @param   protocolVersion
      *          Protocol version to get packet id for
@@ -114,8 +181,8 @@ public class DeserializableBungeeChannelDuplexHandler extends BungeeChannelDuple
      * @return  packet ID
      */
     @SneakyThrows
-    private int getPacketId(int protocolVersion, @NotNull Class<? extends DefinedPacket> clazz) {
-        if (getId == null) return -1;
+    private static int getPacketId(int protocolVersion, @NotNull Class<? extends DefinedPacket> clazz) {
+        if (getId == null || directionData == null || !directionData.hasPacket(clazz, protocolVersion)) return -1;
         return (int) getId.invoke(directionData, clazz, protocolVersion);
     }
-}
\ No newline at end of file
+}
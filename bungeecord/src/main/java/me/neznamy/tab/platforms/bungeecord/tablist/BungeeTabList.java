@@ -121,6 +121,11 @@ public abstract class BungeeTabList extends TrackedTabList<BungeeTabPlayer, Base
         uuids.remove(id);
     }
 
+    @Override
+    public boolean isPacketTracked(@NonNull Class<?> packetClass) {
+        return PlayerListItem.class.isAssignableFrom(packetClass) || PlayerListItemUpdate.class.isAssignableFrom(packetClass);
+    }
+
     @Override
     public void onPacketSend(@NonNull Object packet) {
         if (packet instanceof PlayerListItem) {
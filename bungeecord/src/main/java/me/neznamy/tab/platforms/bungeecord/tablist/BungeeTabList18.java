@@ -26,7 +26,7 @@ public class BungeeTabList18 extends BungeeTabList {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
         removeUuid(entry);
         sendPacket(PlayerListItem.Action.REMOVE_PLAYER, item(entry));
     }
@@ -39,14 +39,14 @@ public class BungeeTabList18 extends BungeeTabList {
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
+    public void updateLatency0(@NonNull UUID entry, int latency) {
         Item item = item(entry);
         item.setPing(latency);
         sendPacket(PlayerListItem.Action.UPDATE_LATENCY, item);
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
         Item item = item(entry);
         item.setGamemode(gameMode);
         sendPacket(PlayerListItem.Action.UPDATE_GAMEMODE, item);
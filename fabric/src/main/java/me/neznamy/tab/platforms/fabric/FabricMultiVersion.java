@@ -236,15 +236,15 @@ public class FabricMultiVersion {
     }
 
     /**
-     * Returns {@code true} if packet is player info packet, {@code false} if not.
+     * Returns {@code true} if packet class is player info packet, {@code false} if not.
      *
-     * @param   packet
-     *          Packet to check
-     * @return  {@code true} if packet is player info packet, {@code false} if not
+     * @param   packetClass
+     *          Packet class to check
+     * @return  {@code true} if packet class is player info packet, {@code false} if not
      */
-    public static boolean isPlayerInfo(@NotNull Packet<?> packet) {
-        if (serverVersion.getNetworkId() >= ProtocolVersion.V1_19_3.getNetworkId()) return loaderLatest.isPlayerInfo(packet);
-        return loader1_14_4.isPlayerInfo(packet);
+    public static boolean isPlayerInfo(@NotNull Class<?> packetClass) {
+        if (serverVersion.getNetworkId() >= ProtocolVersion.V1_19_3.getNetworkId()) return loaderLatest.isPlayerInfo(packetClass);
+        return loader1_14_4.isPlayerInfo(packetClass);
     }
 
     /**
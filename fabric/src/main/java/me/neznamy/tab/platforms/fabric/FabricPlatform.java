@@ -98,6 +98,12 @@ public class FabricPlatform implements BackendPlatform {
         new FabricEventListener().register();
     }
 
+    @Override
+    public boolean hasStateChangeEvent(@NotNull String placeholder) {
+        // Invisibility and disguise status are not tracked on Fabric, gamemode has no event and is polled
+        return placeholder.equals(TabConstants.Placeholder.INVISIBLE) || placeholder.equals(TabConstants.Placeholder.COLLISION);
+    }
+
     @Override
     public void registerCommand() {
         // Event listener must be registered in main class
@@ -7,6 +7,7 @@ import net.minecraft.ChatFormatting;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientboundSetDisplayObjectivePacket;
 import net.minecraft.network.protocol.game.ClientboundSetObjectivePacket;
+import net.minecraft.network.protocol.game.ClientboundSetPlayerTeamPacket;
 import net.minecraft.world.scores.PlayerTeam;
 import net.minecraft.world.scores.Scoreboard;
 import net.minecraft.world.scores.criteria.ObjectiveCriteria.RenderType;
@@ -106,6 +107,13 @@ public class FabricScoreboard extends SafeScoreboard<FabricTabPlayer> {
         t.setPlayerSuffix(team.getSuffix().convert(player.getVersion()));
     }
 
+    @Override
+    public boolean isPacketTracked(@NonNull Class<?> packetClass) {
+        return ClientboundSetDisplayObjectivePacket.class.isAssignableFrom(packetClass) ||
+                ClientboundSetObjectivePacket.class.isAssignableFrom(packetClass) ||
+                ClientboundSetPlayerTeamPacket.class.isAssignableFrom(packetClass);
+    }
+
     @Override
     public void onPacketSend(@NonNull Object packet) {
         if (isAntiOverrideScoreboard()) {
@@ -8,7 +8,6 @@ import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.platform.TabList;
 import me.neznamy.tab.shared.platform.decorators.TrackedTabList;
 import net.minecraft.network.chat.Component;
-import net.minecraft.network.protocol.Packet;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -30,7 +29,7 @@ public class FabricTabList extends TrackedTabList<FabricTabPlayer, Component> {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
         player.sendPacket(FabricMultiVersion.buildTabListPacket(Action.REMOVE_PLAYER,
                 new Builder(entry, "", null, false, 0, 0, null, 0)));
     }
@@ -42,13 +41,13 @@ public class FabricTabList extends TrackedTabList<FabricTabPlayer, Component> {
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
+    public void updateLatency0(@NonNull UUID entry, int latency) {
         player.sendPacket(FabricMultiVersion.buildTabListPacket(Action.UPDATE_LATENCY,
                 new Builder(entry, "", null, false, latency, 0, null, 0)));
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
         player.sendPacket(FabricMultiVersion.buildTabListPacket(Action.UPDATE_GAME_MODE,
                 new Builder(entry, "", null, false, 0, gameMode, null, 0)));
     }
@@ -86,9 +85,14 @@ public class FabricTabList extends TrackedTabList<FabricTabPlayer, Component> {
         return true; // TODO?
     }
 
+    @Override
+    public boolean isPacketTracked(@NonNull Class<?> packetClass) {
+        return FabricMultiVersion.isPlayerInfo(packetClass);
+    }
+
     @Override
     public void onPacketSend(@NonNull Object packet) {
-        if (FabricMultiVersion.isPlayerInfo((Packet<?>) packet)) {
+        if (FabricMultiVersion.isPlayerInfo(packet.getClass())) {
             FabricMultiVersion.onPlayerInfo(player, packet);
         }
     }
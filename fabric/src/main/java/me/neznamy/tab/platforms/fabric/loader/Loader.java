@@ -183,13 +183,13 @@ public interface Loader {
     }
 
     /**
-     * Returns {@code true} if packet is player info packet, {@code false} if not.
+     * Returns {@code true} if packet class is player info packet, {@code false} if not.
      *
-     * @param   packet
-     *          Packet to check
-     * @return  {@code true} if packet is player info packet, {@code false} if not
+     * @param   packetClass
+     *          Packet class to check
+     * @return  {@code true} if packet class is player info packet, {@code false} if not
      */
-    default boolean isPlayerInfo(@NotNull Packet<?> packet) {
+    default boolean isPlayerInfo(@NotNull Class<?> packetClass) {
         throw new UnsupportedOperationException("Not implemented.");
     }
 
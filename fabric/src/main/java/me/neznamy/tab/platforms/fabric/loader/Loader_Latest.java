@@ -136,8 +136,8 @@ public class Loader_Latest implements Loader {
     }
 
     @Override
-    public boolean isPlayerInfo(@NotNull Packet<?> packet) {
-        return packet instanceof ClientboundPlayerInfoUpdatePacket;
+    public boolean isPlayerInfo(@NotNull Class<?> packetClass) {
+        return ClientboundPlayerInfoUpdatePacket.class.isAssignableFrom(packetClass);
     }
 
     @Override
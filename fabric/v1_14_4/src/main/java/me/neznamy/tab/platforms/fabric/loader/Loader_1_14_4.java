@@ -144,8 +144,8 @@ public class Loader_1_14_4 implements Loader {
     }
 
     @Override
-    public boolean isPlayerInfo(@NotNull Packet<?> packet) {
-        return packet instanceof ClientboundPlayerInfoPacket;
+    public boolean isPlayerInfo(@NotNull Class<?> packetClass) {
+        return ClientboundPlayerInfoPacket.class.isAssignableFrom(packetClass);
     }
 
     @Override
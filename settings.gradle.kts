@@ -38,4 +38,5 @@ include(":fabric")
 include(":fabric:v1_14_4")
 include(":fabric:v1_18_2")
 include(":fabric:v1_20_3")
-include(":jar")
\ No newline at end of file
+include(":jar")
+include(":benchmarks")
\ No newline at end of file
@@ -227,6 +227,26 @@ public class ErrorManager {
                 t, true, errorLog);
     }
 
+    /**
+     * Prints error message when a placeholder exceeded configured latency budget
+     * and its refresh interval was increased.
+     *
+     * @param   identifier
+     *          Identifier of the slow placeholder
+     * @param   p99
+     *          99th percentile of request latency in milliseconds
+     * @param   budget
+     *          Configured latency budget in milliseconds
+     * @param   refresh
+     *          New refresh interval of the placeholder
+     */
+    public void slowPlaceholder(@NotNull String identifier, double p99, int budget, int refresh) {
+        printError(String.format("Placeholder %s took %.1fms to retrieve value (99th percentile), exceeding configured budget of %dms. " +
+                "Its refresh interval was increased to %dms to avoid delaying other placeholders. It will be restored once " +
+                "the placeholder becomes fast again.", identifier, p99, budget, refresh),
+                Collections.emptyList(), true, placeholderErrorLog);
+    }
+
     /**
      * Prints error message when RedidSupport received message with unknown action.
      *
@@ -1,9 +1,12 @@
 package me.neznamy.tab.shared;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import me.neznamy.tab.api.placeholder.PlayerPlaceholder;
 import me.neznamy.tab.shared.TabConstants.CpuUsageCategory;
 import me.neznamy.tab.shared.config.files.config.Config;
 import me.neznamy.tab.shared.config.mysql.MySQLUserConfiguration;
+import me.neznamy.tab.shared.cpu.CpuUsageHandle;
 import me.neznamy.tab.shared.cpu.TimedCaughtTask;
 import me.neznamy.tab.shared.features.*;
 import me.neznamy.tab.shared.features.bossbar.BossBarManagerImpl;
@@ -25,6 +28,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Feature registration which offers calls to all features
@@ -35,15 +39,36 @@ public class FeatureManager {
     /** Map of all registered feature where key is feature's identifier */
     private final Map<String, TabFeature> features = new LinkedHashMap<>();
 
+    /** Shared empty listener array */
+    private static final RegisteredListener<?>[] EMPTY_LISTENERS = new RegisteredListener<?>[0];
+
     /** All registered features in an array to avoid memory allocations on iteration */
+    @Getter
     @NotNull
     private TabFeature[] values = new TabFeature[0];
 
-    /** Flag tracking presence of a feature listening to latency change for faster check with better performance */
-    private boolean hasLatencyChangeListener;
-
-    /** Flag tracking presence of a feature listening to command preprocess for faster check with better performance */
-    private boolean hasCommandListener;
+    /*
+     * Features listening to each event with pre-registered CPU usage handles,
+     * rebuilt on feature registration to avoid type checks and lookups on every dispatch
+     */
+    @NotNull private RegisteredListener<JoinListener>[] joinListeners = emptyListeners();
+    @NotNull private RegisteredListener<QuitListener>[] quitListeners = emptyListeners();
+    @NotNull private RegisteredListener<WorldSwitchListener>[] worldSwitchListeners = emptyListeners();
+    @NotNull private RegisteredListener<ServerSwitchListener>[] serverSwitchListeners = emptyListeners();
+    @NotNull private RegisteredListener<GroupListener>[] groupListeners = emptyListeners();
+    @NotNull private RegisteredListener<GameModeListener>[] gameModeListeners = emptyListeners();
+    @NotNull private RegisteredListener<VanishListener>[] vanishListeners = emptyListeners();
+    @NotNull private RegisteredListener<CommandListener>[] commandListeners = emptyListeners();
+    @NotNull private RegisteredListener<DisplayObjectiveListener>[] displayObjectiveListeners = emptyListeners();
+    @NotNull private RegisteredListener<ObjectiveListener>[] objectiveListeners = emptyListeners();
+    @NotNull private RegisteredListener<EntryAddListener>[] entryAddListeners = emptyListeners();
+    @NotNull private RegisteredListener<LatencyListener>[] latencyListeners = emptyListeners();
+    @NotNull private RegisteredListener<TabListClearListener>[] tabListClearListeners = emptyListeners();
+    @NotNull private RegisteredListener<RedisFeature>[] redisLoadRequestListeners = emptyListeners();
+    @NotNull private RegisteredListener<RedisFeature>[] redisJoinListeners = emptyListeners();
+    @NotNull private RegisteredListener<RedisFeature>[] redisServerSwitchListeners = emptyListeners();
+    @NotNull private RegisteredListener<RedisFeature>[] redisQuitListeners = emptyListeners();
+    @NotNull private RegisteredListener<RedisFeature>[] redisVanishListeners = emptyListeners();
 
     /** Commands features listen to */
     private final List<String> listeningCommands = new ArrayList<>();
@@ -99,6 +124,7 @@ public class FeatureManager {
         TAB.getInstance().debug("Unregistered all scoreboard teams, objectives and boss bars for all players in " + (System.currentTimeMillis()-time) + "ms");
         TAB.getInstance().getPlaceholderManager().getTabExpansion().unregisterExpansion();
         if (TAB.getInstance().getPlatform() instanceof ProxyPlatform) {
+            ((ProxyPlatform) TAB.getInstance().getPlatform()).resetBridgeConfigHashes();
             for (TabPlayer player : TAB.getInstance().getOnlinePlayers()) {
                 ((ProxyTabPlayer)player).sendPluginMessage(new Unload());
             }
@@ -112,15 +138,8 @@ public class FeatureManager {
      *          player with new group
      */
     public void onGroupChange(@NotNull TabPlayer player) {
-        for (TabFeature f : values) {
-            if (!(f instanceof GroupListener)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((GroupListener) f).onGroupChange(player), f.getFeatureName(), CpuUsageCategory.GROUP_CHANGE);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        for (RegisteredListener<GroupListener> listener : groupListeners) {
+            listener.dispatch(player, f -> f.onGroupChange(player));
         }
     }
 
@@ -131,15 +150,9 @@ public class FeatureManager {
      *          Player whose gamemode has changed.
      */
     public void onGameModeChange(@NotNull TabPlayer player) {
-        for (TabFeature f : values) {
-            if (!(f instanceof GameModeListener)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((GameModeListener) f).onGameModeChange(player), f.getFeatureName(), CpuUsageCategory.GAMEMODE_CHANGE);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        resetSentTabListValues(player.getTablistId());
+        for (RegisteredListener<GameModeListener> listener : gameModeListeners) {
+            listener.dispatch(player, f -> f.onGameModeChange(player));
         }
     }
 
@@ -153,19 +166,13 @@ public class FeatureManager {
         if (disconnectedPlayer == null) return;
         disconnectedPlayer.markOffline();
         long millis = System.currentTimeMillis();
-        for (TabFeature f : values) {
-            if (!(f instanceof QuitListener)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((QuitListener) f).onQuit(disconnectedPlayer), f.getFeatureName(), CpuUsageCategory.PLAYER_QUIT);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        for (RegisteredListener<QuitListener> listener : quitListeners) {
+            listener.dispatch(disconnectedPlayer, f -> f.onQuit(disconnectedPlayer));
         }
         TAB.getInstance().removePlayer(disconnectedPlayer);
         for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
             ((TrackedTabList<?, ?>)all.getTabList()).getExpectedDisplayNames().remove(disconnectedPlayer.getTablistId());
+            ((TrackedTabList<?, ?>)all.getTabList()).resetSentValues(disconnectedPlayer.getTablistId());
         }
         TAB.getInstance().debug("Player quit of " + disconnectedPlayer.getName() + " processed in " + (System.currentTimeMillis()-millis) + "ms");
     }
@@ -179,18 +186,12 @@ public class FeatureManager {
     public void onJoin(@NotNull TabPlayer connectedPlayer) {
         long millis = System.currentTimeMillis();
         TAB.getInstance().addPlayer(connectedPlayer);
-        for (TabFeature f : values) {
-            if (!(f instanceof JoinListener)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(), () -> {
+        for (RegisteredListener<JoinListener> listener : joinListeners) {
+            listener.dispatch(connectedPlayer, f -> {
                 long time = System.nanoTime();
-                ((JoinListener) f).onJoin(connectedPlayer);
+                f.onJoin(connectedPlayer);
                 TAB.getInstance().debug("Feature " + f.getClass().getSimpleName() + " processed player join in " + (System.nanoTime()-time)/1000000 + "ms");
-            }, f.getFeatureName(), CpuUsageCategory.PLAYER_JOIN);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+            });
         }
         connectedPlayer.markAsLoaded(true);
         TAB.getInstance().debug("Player join of " + connectedPlayer.getName() + " processed in " + (System.currentTimeMillis()-millis) + "ms");
@@ -213,15 +214,8 @@ public class FeatureManager {
         if (changed == null) return;
         String from = changed.world;
         changed.world = to;
-        for (TabFeature f : values) {
-            if (!(f instanceof WorldSwitchListener)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((WorldSwitchListener) f).onWorldChange(changed, from, to), f.getFeatureName(), CpuUsageCategory.WORLD_SWITCH);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        for (RegisteredListener<WorldSwitchListener> listener : worldSwitchListeners) {
+            listener.dispatch(changed, f -> f.onWorldChange(changed, from, to));
         }
         ((PlayerPlaceholder)TAB.getInstance().getPlaceholderManager().getPlaceholder(TabConstants.Placeholder.WORLD)).updateValue(changed, to);
     }
@@ -239,16 +233,11 @@ public class FeatureManager {
         if (changed == null) return;
         String from = changed.server;
         changed.server = to;
+        ((TrackedTabList<?, ?>)changed.getTabList()).resetSentValues();
+        resetSentTabListValues(changed.getTablistId());
         ((ProxyTabPlayer)changed).sendJoinPluginMessage();
-        for (TabFeature f : values) {
-            if (!(f instanceof ServerSwitchListener)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((ServerSwitchListener) f).onServerChange(changed, from, to), f.getFeatureName(), CpuUsageCategory.SERVER_SWITCH);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        for (RegisteredListener<ServerSwitchListener> listener : serverSwitchListeners) {
+            listener.dispatch(changed, f -> f.onServerChange(changed, from, to));
         }
         ((PlayerPlaceholder)TAB.getInstance().getPlaceholderManager().getPlaceholder(TabConstants.Placeholder.SERVER)).updateValue(changed, to);
     }
@@ -264,14 +253,13 @@ public class FeatureManager {
      * @return  {@code true} if event should be cancelled, {@code false} if not.
      */
     public boolean onCommand(@Nullable TabPlayer sender, @NotNull String command) {
-        if (!hasCommandListener || sender == null) return false;
+        if (commandListeners.length == 0 || sender == null) return false;
         if (!listeningCommands.contains(command)) return false;
         boolean cancel = false;
-        for (TabFeature f : values) {
-            if (!(f instanceof CommandListener)) continue;
+        for (RegisteredListener<CommandListener> listener : commandListeners) {
             long time = System.nanoTime();
-            if (((CommandListener)f).onCommand(sender, command)) cancel = true;
-            TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), CpuUsageCategory.COMMAND_PREPROCESS, System.nanoTime()-time);
+            if (listener.listener.onCommand(sender, command)) cancel = true;
+            listener.cpu.addTime(System.nanoTime()-time);
         }
         return cancel;
     }
@@ -287,15 +275,8 @@ public class FeatureManager {
      *          Objective name
      */
     public void onDisplayObjective(@NotNull TabPlayer packetReceiver, int slot, @NotNull String objective) {
-        for (TabFeature f : values) {
-            if (!(f instanceof DisplayObjectiveListener)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((DisplayObjectiveListener) f).onDisplayObjective(packetReceiver, slot, objective), f.getFeatureName(), CpuUsageCategory.SCOREBOARD_PACKET_CHECK);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        for (RegisteredListener<DisplayObjectiveListener> listener : displayObjectiveListeners) {
+            listener.dispatch(packetReceiver, f -> f.onDisplayObjective(packetReceiver, slot, objective));
         }
     }
 
@@ -310,15 +291,8 @@ public class FeatureManager {
      *          Objective name
      */
     public void onObjective(@NotNull TabPlayer packetReceiver, int action, @NotNull String objective) {
-        for (TabFeature f : values) {
-            if (!(f instanceof ObjectiveListener)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((ObjectiveListener) f).onObjective(packetReceiver, action, objective), f.getFeatureName(), CpuUsageCategory.SCOREBOARD_PACKET_CHECK);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        for (RegisteredListener<ObjectiveListener> listener : objectiveListeners) {
+            listener.dispatch(packetReceiver, f -> f.onObjective(packetReceiver, action, objective));
         }
     }
 
@@ -329,15 +303,9 @@ public class FeatureManager {
      *          Player whose vanish status changed
      */
     public void onVanishStatusChange(@NotNull TabPlayer player) {
-        for (TabFeature f : values) {
-            if (!(f instanceof VanishListener)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((VanishListener) f).onVanishStatusChange(player), f.getFeatureName(), CpuUsageCategory.VANISH_CHANGE);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        resetSentTabListValues(player.getTablistId());
+        for (RegisteredListener<VanishListener> listener : vanishListeners) {
+            listener.dispatch(player, f -> f.onVanishStatusChange(player));
         }
     }
 
@@ -352,11 +320,11 @@ public class FeatureManager {
      *          Player name of the entry
      */
     public void onEntryAdd(TabPlayer packetReceiver, UUID id, String name) {
-        for (TabFeature f : values) {
-            if (!(f instanceof EntryAddListener)) continue;
+        ((TrackedTabList<?, ?>)packetReceiver.getTabList()).resetSentValues(id);
+        for (RegisteredListener<EntryAddListener> listener : entryAddListeners) {
             long time = System.nanoTime();
-            ((EntryAddListener)f).onEntryAdd(packetReceiver, id, name);
-            TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), CpuUsageCategory.NICK_PLUGIN_COMPATIBILITY, System.nanoTime() - time);
+            listener.listener.onEntryAdd(packetReceiver, id, name);
+            listener.cpu.addTime(System.nanoTime() - time);
         }
     }
 
@@ -372,13 +340,11 @@ public class FeatureManager {
      * @return  New latency to use
      */
     public int onLatencyChange(TabPlayer packetReceiver, UUID id, int latency) {
-        if (!hasLatencyChangeListener) return latency;
         int newLatency = latency;
-        for (TabFeature f : values) {
-            if (!(f instanceof LatencyListener)) continue;
+        for (RegisteredListener<LatencyListener> listener : latencyListeners) {
             long time = System.nanoTime();
-            newLatency = ((LatencyListener)f).onLatencyChange(packetReceiver, id, newLatency);
-            TAB.getInstance().getCPUManager().addTime(f.getFeatureName(), CpuUsageCategory.PING_CHANGE, System.nanoTime() - time);
+            newLatency = listener.listener.onLatencyChange(packetReceiver, id, newLatency);
+            listener.cpu.addTime(System.nanoTime() - time);
         }
         return newLatency;
     }
@@ -390,15 +356,23 @@ public class FeatureManager {
      *          Player whose tablist got cleared
      */
     public void onTabListClear(TabPlayer packetReceiver) {
-        for (TabFeature f : values) {
-            if (!(f instanceof TabListClearListener)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((TabListClearListener) f).onTabListClear(packetReceiver), f.getFeatureName(), CpuUsageCategory.TABLIST_CLEAR);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        ((TrackedTabList<?, ?>)packetReceiver.getTabList()).resetSentValues();
+        for (RegisteredListener<TabListClearListener> listener : tabListClearListeners) {
+            listener.dispatch(packetReceiver, f -> f.onTabListClear(packetReceiver));
+        }
+    }
+
+    /**
+     * Forgets tablist values sent to specified entry in tablists of all players,
+     * forcing next updates to be sent even if identical, because the entry
+     * may have been modified by something else.
+     *
+     * @param   entry
+     *          Tablist entry to forget values of
+     */
+    private void resetSentTabListValues(@NotNull UUID entry) {
+        for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
+            ((TrackedTabList<?, ?>)all.getTabList()).resetSentValues(entry);
         }
     }
 
@@ -406,15 +380,8 @@ public class FeatureManager {
      * Called when another proxy is reloaded to request all data again.
      */
     public void onRedisLoadRequest() {
-        for (TabFeature f : values) {
-            if (!(f instanceof RedisFeature)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((RedisFeature) f).onRedisLoadRequest(), f.getFeatureName(), CpuUsageCategory.REDIS_RELOAD);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        for (RegisteredListener<RedisFeature> listener : redisLoadRequestListeners) {
+            listener.dispatch(f -> f.onRedisLoadRequest());
         }
     }
 
@@ -425,15 +392,8 @@ public class FeatureManager {
      *          Player who joined
      */
     public void onJoin(@NotNull RedisPlayer connectedPlayer) {
-        for (TabFeature f : values) {
-            if (!(f instanceof RedisFeature)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((RedisFeature) f).onJoin(connectedPlayer), f.getFeatureName(), CpuUsageCategory.PLAYER_JOIN);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        for (RegisteredListener<RedisFeature> listener : redisJoinListeners) {
+            listener.dispatch(f -> f.onJoin(connectedPlayer));
         }
     }
 
@@ -444,15 +404,8 @@ public class FeatureManager {
      *          Player who joined
      */
     public void onServerSwitch(@NotNull RedisPlayer player) {
-        for (TabFeature f : values) {
-            if (!(f instanceof RedisFeature)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((RedisFeature) f).onServerSwitch(player), f.getFeatureName(), CpuUsageCategory.SERVER_SWITCH);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        for (RegisteredListener<RedisFeature> listener : redisServerSwitchListeners) {
+            listener.dispatch(f -> f.onServerSwitch(player));
         }
     }
 
@@ -463,18 +416,12 @@ public class FeatureManager {
      *          Player who left
      */
     public void onQuit(@NotNull RedisPlayer disconnectedPlayer) {
-        for (TabFeature f : values) {
-            if (!(f instanceof RedisFeature)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((RedisFeature) f).onQuit(disconnectedPlayer), f.getFeatureName(), CpuUsageCategory.PLAYER_QUIT);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        for (RegisteredListener<RedisFeature> listener : redisQuitListeners) {
+            listener.dispatch(f -> f.onQuit(disconnectedPlayer));
         }
         for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
             ((TrackedTabList<?, ?>)all.getTabList()).getExpectedDisplayNames().remove(disconnectedPlayer.getUniqueId());
+            ((TrackedTabList<?, ?>)all.getTabList()).resetSentValues(disconnectedPlayer.getUniqueId());
         }
     }
 
@@ -485,15 +432,8 @@ public class FeatureManager {
      *          Player whose vanish status changed
      */
     public void onVanishStatusChange(@NotNull RedisPlayer player) {
-        for (TabFeature f : values) {
-            if (!(f instanceof RedisFeature)) continue;
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(),
-                    () -> ((RedisFeature) f).onVanishStatusChange(player), f.getFeatureName(), CpuUsageCategory.VANISH_CHANGE);
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        for (RegisteredListener<RedisFeature> listener : redisVanishListeners) {
+            listener.dispatch(f -> f.onVanishStatusChange(player));
         }
     }
 
@@ -507,18 +447,14 @@ public class FeatureManager {
      */
     public synchronized void registerFeature(@NotNull String featureName, @NotNull TabFeature featureHandler) {
         features.put(featureName, featureHandler);
-        values = features.values().toArray(new TabFeature[0]);
+        rebuildListeners();
         if (featureHandler instanceof VanishListener) {
             TAB.getInstance().getPlaceholderManager().addUsedPlaceholder(TabConstants.Placeholder.VANISHED);
         }
         if (featureHandler instanceof GameModeListener) {
             TAB.getInstance().getPlaceholderManager().addUsedPlaceholder(TabConstants.Placeholder.GAMEMODE);
         }
-        if (featureHandler instanceof LatencyListener) {
-            hasLatencyChangeListener = true;
-        }
         if (featureHandler instanceof CommandListener) {
-            hasCommandListener = true;
             listeningCommands.add(((CommandListener) featureHandler).getCommand());
         }
     }
@@ -529,9 +465,70 @@ public class FeatureManager {
      * @param   featureName
      *          Name of the feature it was previously registered with.
      */
-    public void unregisterFeature(@NotNull String featureName) {
+    public synchronized void unregisterFeature(@NotNull String featureName) {
         features.remove(featureName);
+        rebuildListeners();
+    }
+
+    /**
+     * Rebuilds array of all features and arrays of features listening to each event.
+     */
+    private void rebuildListeners() {
         values = features.values().toArray(new TabFeature[0]);
+        joinListeners = getListeners(JoinListener.class, CpuUsageCategory.PLAYER_JOIN);
+        quitListeners = getListeners(QuitListener.class, CpuUsageCategory.PLAYER_QUIT);
+        worldSwitchListeners = getListeners(WorldSwitchListener.class, CpuUsageCategory.WORLD_SWITCH);
+        serverSwitchListeners = getListeners(ServerSwitchListener.class, CpuUsageCategory.SERVER_SWITCH);
+        groupListeners = getListeners(GroupListener.class, CpuUsageCategory.GROUP_CHANGE);
+        gameModeListeners = getListeners(GameModeListener.class, CpuUsageCategory.GAMEMODE_CHANGE);
+        vanishListeners = getListeners(VanishListener.class, CpuUsageCategory.VANISH_CHANGE);
+        commandListeners = getListeners(CommandListener.class, CpuUsageCategory.COMMAND_PREPROCESS);
+        displayObjectiveListeners = getListeners(DisplayObjectiveListener.class, CpuUsageCategory.SCOREBOARD_PACKET_CHECK);
+        objectiveListeners = getListeners(ObjectiveListener.class, CpuUsageCategory.SCOREBOARD_PACKET_CHECK);
+        entryAddListeners = getListeners(EntryAddListener.class, CpuUsageCategory.NICK_PLUGIN_COMPATIBILITY);
+        latencyListeners = getListeners(LatencyListener.class, CpuUsageCategory.PING_CHANGE);
+        tabListClearListeners = getListeners(TabListClearListener.class, CpuUsageCategory.TABLIST_CLEAR);
+        redisLoadRequestListeners = getListeners(RedisFeature.class, CpuUsageCategory.REDIS_RELOAD);
+        redisJoinListeners = getListeners(RedisFeature.class, CpuUsageCategory.PLAYER_JOIN);
+        redisServerSwitchListeners = getListeners(RedisFeature.class, CpuUsageCategory.SERVER_SWITCH);
+        redisQuitListeners = getListeners(RedisFeature.class, CpuUsageCategory.PLAYER_QUIT);
+        redisVanishListeners = getListeners(RedisFeature.class, CpuUsageCategory.VANISH_CHANGE);
+    }
+
+    /**
+     * Returns all registered features implementing given listener type wrapped
+     * with CPU usage handle of given category.
+     *
+     * @param   type
+     *          Listener type
+     * @param   cpuCategory
+     *          CPU usage category of the event
+     * @return  Array of registered listeners of given type
+     * @param   <T>
+     *          Listener type
+     */
+    @NotNull
+    private <T> RegisteredListener<T>[] getListeners(@NotNull Class<T> type, @NotNull String cpuCategory) {
+        List<RegisteredListener<T>> listeners = new ArrayList<>();
+        for (TabFeature f : values) {
+            if (!type.isInstance(f)) continue;
+            listeners.add(new RegisteredListener<>(type.cast(f), new CpuUsageHandle(TAB.getInstance().getCpu(), f.getFeatureName(), cpuCategory),
+                    f instanceof CustomThreaded ? (CustomThreaded) f : null));
+        }
+        return listeners.toArray(emptyListeners());
+    }
+
+    /**
+     * Returns empty listener array of requested type.
+     *
+     * @return  Empty listener array
+     * @param   <T>
+     *          Listener type
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private static <T> RegisteredListener<T>[] emptyListeners() {
+        return (RegisteredListener<T>[]) EMPTY_LISTENERS;
     }
 
     /**
@@ -584,6 +581,9 @@ public class FeatureManager {
         if (config.getBossbar() != null) {
             featureManager.registerFeature(TabConstants.Feature.BOSS_BAR, new BossBarManagerImpl(config.getBossbar()));
         }
+        if (config.getMetrics() != null) {
+            featureManager.registerFeature(TabConstants.Feature.METRICS_EXPORTER, new MetricsExporter(config.getMetrics()));
+        }
         if (config.getPingSpoof() != null) {
             featureManager.registerFeature(TabConstants.Feature.PING_SPOOF, new PingSpoof(config.getPingSpoof()));
         }
@@ -626,4 +626,73 @@ public class FeatureManager {
 
         featureManager.registerFeature(TabConstants.Feature.NICK_COMPATIBILITY, new NickCompatibility());
     }
-}
\ No newline at end of file
+
+    /**
+     * Feature listening to an event with pre-registered CPU usage handle.
+     *
+     * @param   <T>
+     *          Listener type
+     */
+    @RequiredArgsConstructor
+    private static class RegisteredListener<T> {
+
+        /** Feature listening to the event */
+        @NotNull private final T listener;
+
+        /** CPU usage handle of the feature and event */
+        @NotNull private final CpuUsageHandle cpu;
+
+        /** Feature if it wants events to be processed in its own thread, {@code null} for current thread */
+        @Nullable private final CustomThreaded customThreaded;
+
+        /**
+         * Forwards event to the listener in its thread. For features processing
+         * players in parallel, the event waits for player tasks submitted before it
+         * and no player task runs until it is processed.
+         *
+         * @param   action
+         *          Event call
+         */
+        public void dispatch(@NotNull Consumer<T> action) {
+            if (customThreaded != null) {
+                customThreaded.getCustomThread().execute(() -> run(action));
+            } else {
+                run(action);
+            }
+        }
+
+        /**
+         * Forwards event affecting a single player to the listener in its thread
+         * for tasks of that player.
+         *
+         * @param   player
+         *          Player affected by the event
+         * @param   action
+         *          Event call
+         */
+        public void dispatch(@NotNull TabPlayer player, @NotNull Consumer<T> action) {
+            if (customThreaded != null) {
+                customThreaded.getCustomThread(player).execute(() -> run(action));
+            } else {
+                run(action);
+            }
+        }
+
+        /**
+         * Forwards event to the listener in current thread, measures how long
+         * it took and catches errors.
+         *
+         * @param   action
+         *          Event call
+         */
+        private void run(@NotNull Consumer<T> action) {
+            try {
+                long time = System.nanoTime();
+                action.accept(listener);
+                cpu.addTime(System.nanoTime() - time);
+            } catch (Exception | LinkageError | StackOverflowError e) {
+                TAB.getInstance().getErrorManager().taskThrewError(e);
+            }
+        }
+    }
+}
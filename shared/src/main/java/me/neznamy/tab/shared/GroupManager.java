@@ -1,10 +1,13 @@
 package me.neznamy.tab.shared;
 
 import lombok.Getter;
+import me.neznamy.tab.shared.cpu.CpuManager;
 import me.neznamy.tab.shared.cpu.TimedCaughtTask;
+import me.neznamy.tab.shared.hook.PermissionChangeSource;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.task.GroupRefreshTask;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.function.Function;
 
@@ -14,12 +17,21 @@ import java.util.function.Function;
 @Getter
 public class GroupManager {
 
+    /**
+     * Minimum interval of periodic group refreshing when permission plugin notifies about changes,
+     * serving only as a safety net in case a change was missed.
+     */
+    public static final int SAFETY_NET_REFRESH_INTERVAL = 30000;
+
     /** Permission plugin's name */
     @NotNull private final String permissionPlugin;
 
     /** Group retrieve function */
     @NotNull private final Function<TabPlayer, String> groupFunction;
 
+    /** Source of permission data change notifications, {@code null} if not available */
+    @Nullable private final PermissionChangeSource changeSource;
+
     /** Function for retrieving player's group */
     private final Function<TabPlayer, String> detectGroup = TAB.getInstance().getConfiguration().getConfig().isGroupsByPermissions() ? this::getByPermission : this::getByPrimary;
 
@@ -32,10 +44,38 @@ public class GroupManager {
      *          Function returning group of a player
      */
     public GroupManager(@NotNull String permissionPlugin, @NotNull Function<TabPlayer, String> groupFunction) {
+        this(permissionPlugin, groupFunction, null);
+    }
+
+    /**
+     * Constructs new instance with given permission plugin and registers group placeholder.
+     * If change source is provided, groups are refreshed on change notification and
+     * periodic refreshing is reduced to {@link #SAFETY_NET_REFRESH_INTERVAL}.
+     *
+     * @param   permissionPlugin
+     *          Name of detected permission plugin
+     * @param   groupFunction
+     *          Function returning group of a player
+     * @param   changeSource
+     *          Source of permission data change notifications, {@code null} if not available
+     */
+    public GroupManager(@NotNull String permissionPlugin, @NotNull Function<TabPlayer, String> groupFunction,
+                        @Nullable PermissionChangeSource changeSource) {
         this.permissionPlugin = permissionPlugin;
         this.groupFunction = groupFunction;
-        TAB.getInstance().getCpu().getGroupRefreshingThread().repeatTask(new TimedCaughtTask(TAB.getInstance().getCpu(), new GroupRefreshTask(detectGroup),
-                "Permission group refreshing", "Periodic task"), TAB.getInstance().getConfiguration().getConfig().getPermissionRefreshInterval());
+        this.changeSource = changeSource;
+        CpuManager cpu = TAB.getInstance().getCpu();
+        GroupRefreshTask refreshTask = new GroupRefreshTask(detectGroup);
+        int interval = TAB.getInstance().getConfiguration().getConfig().getPermissionRefreshInterval();
+        if (changeSource != null) {
+            interval = Math.max(interval, SAFETY_NET_REFRESH_INTERVAL);
+            changeSource.subscribe(uuid -> cpu.getGroupRefreshingThread().execute(new TimedCaughtTask(cpu, () -> {
+                TabPlayer player = TAB.getInstance().getPlayer(uuid);
+                if (player != null) refreshTask.refresh(player);
+            }, "Permission group refreshing", "Permission change event")));
+        }
+        cpu.getGroupRefreshingThread().repeatTask(new TimedCaughtTask(cpu, refreshTask,
+                "Permission group refreshing", "Periodic task"), interval);
     }
 
     /**
@@ -2,14 +2,19 @@ package me.neznamy.tab.shared;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import me.neznamy.tab.shared.features.PlaceholderManagerImpl;
 import me.neznamy.tab.shared.features.types.RefreshableFeature;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.rgb.RGBUtils;
 import me.neznamy.tab.shared.placeholders.expansion.TabExpansion;
 import me.neznamy.tab.shared.placeholders.types.RelationalPlaceholderImpl;
+import me.neznamy.tab.shared.placeholders.types.ServerPlaceholderImpl;
+import me.neznamy.tab.shared.placeholders.types.TabPlaceholder;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -21,6 +26,12 @@ import org.jetbrains.annotations.Nullable;
  */
 public class Property {
 
+    /** Maximum amount of remembered shared texts before they are forgotten */
+    private static final int SHARED_TEXT_LIMIT = 1000;
+
+    /** Texts using only server placeholders by formatted value and placeholders */
+    private static final Map<String, SharedText> sharedTexts = new ConcurrentHashMap<>();
+
     /** Internal identifier for this text for PlaceholderAPI expansion, null if it should not be exposed */
     @Getter
     @Nullable
@@ -68,6 +79,12 @@ public class Property {
     /** Relational placeholders in the text in the same order they are used */
     private String[] relPlaceholders;
 
+    /**
+     * Rendering shared with all properties with the same text if it only uses
+     * server placeholders, {@code null} if the text depends on the player.
+     */
+    @Nullable private SharedText sharedText;
+
     /**
      * Constructs new instance with given parameters and prepares
      * the formatter for use by detecting placeholders and reformatting the text.
@@ -160,6 +177,7 @@ public class Property {
         if (listener != null) {
             listener.addUsedPlaceholders(placeholders0);
         }
+        sharedText = relPlaceholders.length == 0 && usesServerPlaceholdersOnly() ? SharedText.of(rawFormattedValue, placeholders) : null;
         lastReplacedValue = rawFormattedValue;
         update();
         if (name != null) {
@@ -169,6 +187,20 @@ public class Property {
         }
     }
 
+    /**
+     * Returns {@code true} if the text contains placeholders and all of them are
+     * server placeholders, making the text the same for all players.
+     *
+     * @return  {@code true} if text only uses server placeholders, {@code false} if not
+     */
+    private boolean usesServerPlaceholdersOnly() {
+        if (placeholders.length == 0) return false;
+        for (String identifier : placeholders) {
+            if (!(TAB.getInstance().getPlaceholderManager().getPlaceholder(identifier) instanceof ServerPlaceholderImpl)) return false;
+        }
+        return true;
+    }
+
     private String replaceFirst(String original, String searchString) {
         int index = original.indexOf(searchString);
         if (index != -1) {
@@ -262,17 +294,8 @@ public class Property {
      */
     public boolean update() {
         if (placeholders.length == 0) return false;
-        String string;
-        if ("%s".equals(rawFormattedValue)) {
-            string = TAB.getInstance().getPlaceholderManager().getPlaceholder(placeholders[0]).set(placeholders[0], owner);
-        } else {
-            Object[] values = new String[placeholders.length];
-            for (int i=0; i<placeholders.length; i++) {
-                values[i] = TAB.getInstance().getPlaceholderManager().getPlaceholder(placeholders[i]).set(placeholders[i], owner);
-            }
-            string = String.format(rawFormattedValue, values);
-        }
-        string = EnumChatFormat.color(string);
+        String string = sharedText == null ? null : sharedText.render();
+        if (string == null) string = render(rawFormattedValue, placeholders, owner);
         if (!lastReplacedValue.equals(string)) {
             lastReplacedValue = string;
             mayContainRelPlaceholders = lastReplacedValue.indexOf('%') != -1;
@@ -284,6 +307,32 @@ public class Property {
         return false;
     }
 
+    /**
+     * Replaces placeholders in formatted value and colorizes the result.
+     *
+     * @param   rawFormattedValue
+     *          Value using %s for each placeholder
+     * @param   placeholders
+     *          Placeholders in the order they are used
+     * @param   player
+     *          Player to replace placeholders for, {@code null} for server placeholders
+     * @return  Replaced and colorized value
+     */
+    @NotNull
+    private static String render(@NotNull String rawFormattedValue, @NotNull String[] placeholders, @Nullable TabPlayer player) {
+        String string;
+        if ("%s".equals(rawFormattedValue)) {
+            string = TAB.getInstance().getPlaceholderManager().getPlaceholder(placeholders[0]).set(placeholders[0], player);
+        } else {
+            Object[] values = new String[placeholders.length];
+            for (int i=0; i<placeholders.length; i++) {
+                values[i] = TAB.getInstance().getPlaceholderManager().getPlaceholder(placeholders[i]).set(placeholders[i], player);
+            }
+            string = String.format(rawFormattedValue, values);
+        }
+        return EnumChatFormat.color(string);
+    }
+
     /**
      * Returns last known value
      *
@@ -319,4 +368,109 @@ public class Property {
         }
         return format;
     }
-}
\ No newline at end of file
+
+    /**
+     * Forgets all shared texts, so they do not keep references to placeholders
+     * of previous load.
+     */
+    public static void clearSharedTexts() {
+        sharedTexts.clear();
+    }
+
+    /**
+     * Text using only server placeholders, which is the same for all players. It is
+     * rendered once per change of used placeholders and the same String instance
+     * is shared with all properties, so converting it into a component is only done
+     * once as well.
+     */
+    @RequiredArgsConstructor
+    private static class SharedText {
+
+        /** Value using %s for each placeholder */
+        @NotNull private final String rawFormattedValue;
+
+        /** Placeholders in the order they are used */
+        @NotNull private final String[] placeholders;
+
+        /** Last rendered value with versions of placeholders it was rendered from */
+        @Nullable private volatile Rendered rendered;
+
+        /**
+         * Returns shared text for given value, creating it if it does not exist yet.
+         *
+         * @param   rawFormattedValue
+         *          Value using %s for each placeholder
+         * @param   placeholders
+         *          Placeholders in the order they are used
+         * @return  Shared text for given value
+         */
+        @NotNull
+        private static SharedText of(@NotNull String rawFormattedValue, @NotNull String[] placeholders) {
+            if (sharedTexts.size() > SHARED_TEXT_LIMIT) sharedTexts.clear();
+            return sharedTexts.computeIfAbsent(rawFormattedValue + '\0' + String.join("\0", placeholders),
+                    key -> new SharedText(rawFormattedValue, placeholders));
+        }
+
+        /**
+         * Returns rendered text, rendering it again if any of the placeholders changed value.
+         *
+         * @return  Rendered text or {@code null} if it must be rendered for each player
+         *          because a placeholder is no longer a server placeholder or contains
+         *          nested placeholders
+         */
+        @Nullable
+        private String render() {
+            PlaceholderManagerImpl manager = TAB.getInstance().getPlaceholderManager();
+            int generation = manager.getRegistrationGeneration();
+            Rendered rendered = this.rendered;
+            if (rendered != null && rendered.isValid(generation)) return rendered.value;
+            ServerPlaceholderImpl[] resolved = new ServerPlaceholderImpl[placeholders.length];
+            long[] versions = new long[placeholders.length];
+            for (int i = 0; i < placeholders.length; i++) {
+                TabPlaceholder placeholder = manager.getPlaceholder(placeholders[i]);
+                if (!(placeholder instanceof ServerPlaceholderImpl)) return null;
+                resolved[i] = (ServerPlaceholderImpl) placeholder;
+                versions[i] = resolved[i].getVersion();
+                // Nested placeholders are replaced for each player separately
+                if (resolved[i].getLastValue().indexOf('%') != -1) return null;
+            }
+            String value = Property.render(rawFormattedValue, placeholders, null);
+            this.rendered = new Rendered(generation, resolved, versions, value);
+            return value;
+        }
+    }
+
+    /**
+     * Rendered shared text with versions of placeholders it was rendered from.
+     */
+    @RequiredArgsConstructor
+    private static class Rendered {
+
+        /** Placeholder registration generation the placeholder references belong to */
+        private final int generation;
+
+        /** Placeholders used in the text */
+        @NotNull private final ServerPlaceholderImpl[] placeholders;
+
+        /** Versions of placeholder values the text was rendered from */
+        @NotNull private final long[] versions;
+
+        /** Rendered text */
+        @NotNull private final String value;
+
+        /**
+         * Returns {@code true} if no placeholder changed value since rendering, {@code false} otherwise.
+         *
+         * @param   generation
+         *          Current placeholder registration generation
+         * @return  {@code true} if rendered text is up to date, {@code false} if not
+         */
+        private boolean isValid(int generation) {
+            if (this.generation != generation) return false;
+            for (int i = 0; i < placeholders.length; i++) {
+                if (placeholders[i].getVersion() != versions[i]) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -13,7 +13,9 @@ import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.config.helper.ConfigHelper;
 import me.neznamy.tab.shared.cpu.CpuManager;
+import me.neznamy.tab.shared.cpu.SharedThreadPool;
 import me.neznamy.tab.shared.features.nametags.NameTag;
+import me.neznamy.tab.shared.hook.LuckPermsHook;
 import me.neznamy.tab.shared.platform.Platform;
 import me.neznamy.tab.shared.command.DisabledCommand;
 import me.neznamy.tab.shared.command.TabCommand;
@@ -172,6 +174,7 @@ public class TAB extends TabAPI {
             long time = System.currentTimeMillis();
             cpu = new CpuManager();
             configuration = new Configs();
+            SharedThreadPool.setEnabled(configuration.getConfig().isSharedThreadPool());
             featureManager = new FeatureManager();
             placeholderManager = new PlaceholderManagerImpl(cpu, configuration.getConfig().getRefresh());
             featureManager.registerFeature(TabConstants.Feature.PLACEHOLDER_MANAGER, placeholderManager);
@@ -222,10 +225,13 @@ public class TAB extends TabAPI {
      */
     private void kill() {
         pluginDisabled = true;
+        if (LuckPermsHook.getInstance().isInstalled()) LuckPermsHook.getInstance().unsubscribe();
+        if (groupManager != null && groupManager.getChangeSource() != null) groupManager.getChangeSource().unsubscribe();
         data.clear();
         playersByName.clear();
         playersByTabListId.clear();
         onlinePlayers = new TabPlayer[0];
+        Property.clearSharedTexts();
         cpu.cancelAllTasks();
     }
 
@@ -75,9 +75,11 @@ public class TabConstants {
         public static final String PLACEHOLDER_REFRESH_INIT = "Phase #1 - Preparing for request";
         public static final String PLACEHOLDER_REQUEST = "Phase #2 - Requesting new values";
         public static final String PLACEHOLDER_SAVE = "Phase #3 - Saving results";
+        public static final String PLACEHOLDER_LATENCY = "Evaluating latency";
 
         // Other
         public static final String GAMEMODE_CHANGE = "Processing gamemode change";
+        public static final String STATE_CHANGE_EVENT = "Processing state change event";
         public static final String TABLIST_CLEAR = "TabList entry re-add";
         public static final String VANISH_CHANGE = "Vanish status change";
         public static final String DISABLE_CONDITION_CHANGE = "Refreshing disable condition";
@@ -151,6 +153,7 @@ public class TabConstants {
         public static final String NAME_TAGS_VISIBILITY = "NameTagVisibility";
         public static final String PLACEHOLDER_MANAGER = "PlaceholderManager";
         public static final String PING_SPOOF = "PingSpoof";
+        public static final String METRICS_EXPORTER = "MetricsExporter";
 
         //Bukkit only
         public static final String PER_WORLD_PLAYER_LIST = "PerWorldPlayerList";
@@ -3,12 +3,16 @@ package me.neznamy.tab.shared.command;
 import java.text.DecimalFormat;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 
 import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.cpu.CpuReport;
+import me.neznamy.tab.shared.cpu.LatencyHistogram;
+import me.neznamy.tab.shared.placeholders.types.TabPlaceholder;
+import me.neznamy.tab.shared.platform.TabList;
 import me.neznamy.tab.shared.platform.TabPlayer;
+import me.neznamy.tab.shared.platform.decorators.TrackedTabList;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
-import me.neznamy.tab.api.placeholder.Placeholder;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
 import org.jetbrains.annotations.NotNull;
@@ -57,6 +61,8 @@ public class CpuCommand extends SubCommand {
         sendMessage(sender, String.format("&8&l%s &6&lPlaceholders Total: &a&l%s%%", LINE_CHAR, colorize(decimal3.format(report.getPlaceholderUsageTotal()), 10, 5)));
         sendMessage(sender, String.format("&8&l%s &6&lPlugin internals: &a&l%s%%", LINE_CHAR, colorize(decimal3.format(report.getFeatureUsageTotal()-report.getPlaceholderUsageTotal()), 10, 5)));
         sendMessage(sender, String.format("&8&l%s &6&lTotal: &e&l%s%%", LINE_CHAR, colorize(decimal3.format(report.getFeatureUsageTotal()), 10, 5)));
+        sendMessage(sender, String.format("&8&l%s &6Skipped tablist display name updates: &a%d", LINE_CHAR,
+                TrackedTabList.getSuppressedUpdates(TabList.Action.UPDATE_DISPLAY_NAME)));
         sendMessage(sender, "&8&l" + LINE_CHAR + "&8&m             &r&8&l[ &bTAB CPU Stats &8&l]&r&8&l&m             ");
         sendMessage(sender, " ");
     }
@@ -66,13 +72,27 @@ public class CpuCommand extends SubCommand {
         for (Entry<String, Float> entry : map.entrySet()) {
             if (printCounter++ == 5) break;
             String refresh = "";
-            Placeholder p = TAB.getInstance().getPlaceholderManager().getPlaceholder(entry.getKey());
-            if (p.getRefresh() != -1) refresh = " &8(" + p.getRefresh() + ")&7";
+            TabPlaceholder p = TAB.getInstance().getPlaceholderManager().getPlaceholder(entry.getKey());
+            if (p.getRefresh() != -1) {
+                refresh = p.getEffectiveRefresh() == p.getRefresh() ? " &8(" + p.getRefresh() + ")&7" :
+                        " &8(&c" + p.getEffectiveRefresh() + "&8, slowed down from " + p.getRefresh() + ")&7";
+            }
             String colorized = entry.getKey().startsWith("%sync:") ? "&c" + decimal3.format(entry.getValue()) : colorize(decimal3.format(entry.getValue()), 1, 0.3f);
-            sendMessage(sender, String.format("&8&l%s &7%s - %s%%", LINE_CHAR, entry.getKey() + refresh, colorized));
+            sendMessage(sender, String.format("&8&l%s &7%s - %s%%%s", LINE_CHAR, entry.getKey() + refresh, colorized, formatLatency(p.getLastLatency())));
         }
     }
 
+    @NotNull
+    private String formatLatency(@Nullable LatencyHistogram.Snapshot latency) {
+        if (latency == null || latency.getCount() == 0) return "";
+        return String.format(" &8[p50 &7%sms&8, p99 &7%sms&8, max &7%sms&8]", millis(latency.getP50()), millis(latency.getP99()), millis(latency.getMax()));
+    }
+
+    @NotNull
+    private String millis(long nanoseconds) {
+        return decimal3.format((double) nanoseconds / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
     private void sendToConsole(@NotNull Map<String, Map<String, Float>> features) {
         TAB.getInstance().getPlatform().logInfo(TabComponent.fromColoredText(EnumChatFormat.color("&8&l" + LINE_CHAR + " &6Features:")));
         for (Entry<String, Map<String, Float>> entry : features.entrySet()) {
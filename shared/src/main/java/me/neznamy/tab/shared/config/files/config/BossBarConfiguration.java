@@ -17,11 +17,12 @@ public class BossBarConfiguration extends ConfigurationSection {
     @NotNull public final String toggleCommand = getString(SECTION + ".toggle-command", "/bossbar");
     public final boolean rememberToggleChoice = getBoolean(SECTION + ".remember-toggle-choice", false);
     public final boolean hiddenByDefault = getBoolean(SECTION + ".hidden-by-default", false);
+    public final int minUpdateInterval = getInt(SECTION + ".min-update-interval-ms", 0);
     @NotNull public final Map<String, BossBarDefinition> bars = new LinkedHashMap<>();
 
     public BossBarConfiguration(@NotNull ConfigurationFile config) {
         super(config);
-        checkForUnknownKey(SECTION, Arrays.asList("enabled", "toggle-command", "remember-toggle-choice", "hidden-by-default", "bars"));
+        checkForUnknownKey(SECTION, Arrays.asList("enabled", "toggle-command", "remember-toggle-choice", "hidden-by-default", "min-update-interval-ms", "bars"));
         for (Object bossbar : getMap(SECTION + ".bars", Collections.emptyMap()).keySet()) {
             checkForUnknownKey(SECTION + ".bars." + bossbar, Arrays.asList("style", "color", "progress", "text", "announcement-bar", "display-condition"));
             BossBarDefinition def = new BossBarDefinition(
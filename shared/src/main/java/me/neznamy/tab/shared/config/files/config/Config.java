@@ -25,6 +25,7 @@ public class Config {
     @Nullable private GlobalPlayerListConfiguration globalPlayerList;
     @Nullable private HeaderFooterConfiguration headerFooter;
     @Nullable private LayoutConfiguration layout;
+    @Nullable private MetricsConfiguration metrics;
     @Nullable private MySQLConfiguration mysql;
     @Nullable private PerWorldPlayerListConfiguration perWorldPlayerList;
     @Nullable private PingSpoofConfiguration pingSpoof;
@@ -40,6 +41,7 @@ public class Config {
     private final boolean preventSpectatorEffect = config.getBoolean("prevent-spectator-effect.enabled", false);
     private final boolean bukkitPermissions = TAB.getInstance().getPlatform().isProxy() && config.getBoolean("use-bukkit-permissions-manager", false);
     private final boolean debugMode = config.getBoolean("debug", false);
+    private final boolean sharedThreadPool = config.getBoolean("shared-thread-pool", true);
     private final boolean onlineUuidInTabList = config.getBoolean("use-online-uuid-in-tablist", true);
     private final boolean pipelineInjection = getSecretOption("pipeline-injection", true);
     @NotNull private final String serverName = getSecretOption("server-name", "N/A");
@@ -69,6 +71,7 @@ public class Config {
         if (config.getBoolean("global-playerlist.enabled", false)) globalPlayerList = new GlobalPlayerListConfiguration(config);
         if (config.getBoolean("header-footer.enabled", true)) headerFooter = new HeaderFooterConfiguration(config);
         if (config.getBoolean("layout.enabled", false)) layout = new LayoutConfiguration(config);
+        if (config.getBoolean("metrics-exporter.enabled", false)) metrics = new MetricsConfiguration(config);
         if (config.getBoolean("mysql.enabled", false)) mysql = new MySQLConfiguration(config);
         if (config.getBoolean("per-world-playerlist.enabled", false)) perWorldPlayerList = new PerWorldPlayerListConfiguration(config);
         if (config.getBoolean("ping-spoof.enabled", false)) pingSpoof = new PingSpoofConfiguration(config);
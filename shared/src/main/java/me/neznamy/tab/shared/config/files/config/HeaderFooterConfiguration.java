@@ -14,13 +14,14 @@ public class HeaderFooterConfiguration extends ConfigurationSection {
     @NotNull public final List<String> header = getStringList(SECTION + ".header", Collections.emptyList());
     @NotNull public final List<String> footer = getStringList(SECTION + ".footer", Collections.emptyList());
     @Nullable public final String disableCondition = getString(SECTION + ".disable-condition", "%world%=disabledworld");
+    public final int minUpdateInterval = getInt(SECTION + ".min-update-interval-ms", 0);
     @NotNull public final Map<String, HeaderFooterPair> perWorld = new HashMap<>();
     @NotNull public final Map<String, HeaderFooterPair> perServer = new HashMap<>();
 
     public HeaderFooterConfiguration(@NotNull ConfigurationFile config) {
         super(config);
         checkForUnknownKey(SECTION, Arrays.asList(
-                "enabled", "header", "footer", "disable-condition", "per-world", "per-server"));
+                "enabled", "header", "footer", "disable-condition", "min-update-interval-ms", "per-world", "per-server"));
         Map<String, ?> perWorld = getMap(SECTION + ".per-world");
         if (perWorld != null) {
             for (String world : perWorld.keySet()) {
@@ -0,0 +1,18 @@
+package me.neznamy.tab.shared.config.files.config;
+
+import me.neznamy.tab.shared.config.file.ConfigurationFile;
+import me.neznamy.tab.shared.config.files.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+public class MetricsConfiguration extends ConfigurationSection {
+
+    private final String SECTION = "metrics-exporter";
+    public final int port = getInt(SECTION + ".port", 9225);
+
+    public MetricsConfiguration(@NotNull ConfigurationFile config) {
+        super(config);
+        checkForUnknownKey(SECTION, Arrays.asList("enabled", "port"));
+    }
+}
@@ -16,10 +16,11 @@ public class PlaceholdersConfiguration extends ConfigurationSection {
     @NotNull public SimpleDateFormat timeFormat = parseDateFormat(getString(SECTION + ".time-format", "[HH:mm:ss / h:mm a]"), "[HH:mm:ss / h:mm a]");
     public double timeOffset = getNumber(SECTION + ".time-offset", 0).doubleValue();
     public boolean registerTabExpansion = getBoolean(SECTION + ".register-tab-expansion", false);
+    public int slowPlaceholderBudget = getInt(SECTION + ".slow-placeholder-budget-ms", 50);
 
     public PlaceholdersConfiguration(@NotNull ConfigurationFile config) {
         super(config);
-        checkForUnknownKey(SECTION, Arrays.asList("date-format", "time-format", "time-offset", "register-tab-expansion"));
+        checkForUnknownKey(SECTION, Arrays.asList("date-format", "time-format", "time-offset", "register-tab-expansion", "slow-placeholder-budget-ms"));
     }
 
     /**
@@ -18,12 +18,13 @@ public class ScoreboardConfiguration extends ConfigurationSection {
     public final boolean useNumbers = getBoolean(SECTION + ".use-numbers", true);
     public final int staticNumber = getInt(SECTION + ".static-number", 0);
     public final int joinDelay = getInt(SECTION + ".delay-on-join-milliseconds", 0);
+    public final int minUpdateInterval = getInt(SECTION + ".min-update-interval-ms", 0);
     @NotNull public final Map<String, ScoreboardDefinition> scoreboards = new LinkedHashMap<>();
 
     public ScoreboardConfiguration(@NotNull ConfigurationFile config) {
         super(config);
         checkForUnknownKey(SECTION, Arrays.asList("enabled", "toggle-command", "remember-toggle-choice", "hidden-by-default",
-                "use-numbers", "static-number", "delay-on-join-milliseconds", "scoreboards"));
+                "use-numbers", "static-number", "delay-on-join-milliseconds", "min-update-interval-ms", "scoreboards"));
 
         for (Object scoreboard : getMap(SECTION + ".scoreboards", Collections.emptyMap()).keySet()) {
             checkForUnknownKey(new String[]{SECTION, "scoreboards", scoreboard.toString()}, Arrays.asList("display-condition", "title", "lines"));
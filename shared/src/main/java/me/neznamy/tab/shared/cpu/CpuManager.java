@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -22,6 +23,14 @@ public class CpuManager {
     /** Active time in current time period saved as nanoseconds from placeholders */
     private volatile Map<String, AtomicLong> placeholderUsageCurrent = new ConcurrentHashMap<>();
 
+    /** Active time in previous time periods saved as nanoseconds from features, guarded by this instance */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Map<String, Long>> featureUsagePrevious = new HashMap<>();
+
+    /** Active time in previous time periods saved as nanoseconds from placeholders, guarded by this instance */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Long> placeholderUsagePrevious = new HashMap<>();
+
     /** Last CPU report */
     @Nullable private CpuReport lastReport;
 
@@ -44,6 +53,15 @@ public class CpuManager {
     /** Scheduler for decoding plugin messages */
     private final ThreadExecutor pluginMessageDecodeThread = new ThreadExecutor("TAB Plugin Message Decoding Thread");
 
+    /** Scheduler for timeouts of asynchronous requests, created on first use */
+    @Getter(AccessLevel.NONE)
+    @Nullable
+    private ScheduledThreadPoolExecutor timeoutScheduler;
+
+    /** Flag tracking whether {@link #cancelAllTasks()} was called */
+    @Getter(AccessLevel.NONE)
+    private boolean shutdown;
+
     /** Tasks submitted to main thread before plugin was fully enabled */
     private final Queue<Runnable> taskQueue = new ConcurrentLinkedQueue<>();
 
@@ -64,12 +82,70 @@ public class CpuManager {
         trackUsage = true;
         processingThread.repeatTask(new TimedCaughtTask(this, () -> {
             lastReport = new CpuReport(UPDATE_RATE_SECONDS, featureUsageCurrent, placeholderUsageCurrent);
-            featureUsageCurrent = new ConcurrentHashMap<>();
-            placeholderUsageCurrent = new ConcurrentHashMap<>();
+            synchronized (this) {
+                mergeFeatureUsage(featureUsagePrevious, featureUsageCurrent);
+                mergePlaceholderUsage(placeholderUsagePrevious, placeholderUsageCurrent);
+                featureUsageCurrent = new ConcurrentHashMap<>();
+                placeholderUsageCurrent = new ConcurrentHashMap<>();
+            }
         }, "CPU Tracking", "Resetting values"), ((int) TimeUnit.SECONDS.toMillis(UPDATE_RATE_SECONDS)));
         return true;
     }
 
+    /**
+     * Returns active time of features by feature and usage type in nanoseconds
+     * since tracking was enabled.
+     *
+     * @return  Active time of features since tracking was enabled
+     */
+    @NotNull
+    public synchronized Map<String, Map<String, Long>> getFeatureUsageSinceEnable() {
+        Map<String, Map<String, Long>> usage = new HashMap<>();
+        for (Map.Entry<String, Map<String, Long>> entry : featureUsagePrevious.entrySet()) {
+            usage.put(entry.getKey(), new HashMap<>(entry.getValue()));
+        }
+        mergeFeatureUsage(usage, featureUsageCurrent);
+        return usage;
+    }
+
+    /**
+     * Returns active time of placeholders in nanoseconds since tracking was enabled.
+     *
+     * @return  Active time of placeholders since tracking was enabled
+     */
+    @NotNull
+    public synchronized Map<String, Long> getPlaceholderUsageSinceEnable() {
+        Map<String, Long> usage = new HashMap<>(placeholderUsagePrevious);
+        mergePlaceholderUsage(usage, placeholderUsageCurrent);
+        return usage;
+    }
+
+    private void mergeFeatureUsage(@NotNull Map<String, Map<String, Long>> target, @NotNull Map<String, Map<String, AtomicLong>> source) {
+        for (Map.Entry<String, Map<String, AtomicLong>> feature : source.entrySet()) {
+            Map<String, Long> types = target.computeIfAbsent(feature.getKey(), f -> new HashMap<>());
+            for (Map.Entry<String, AtomicLong> type : feature.getValue().entrySet()) {
+                types.merge(type.getKey(), type.getValue().get(), Long::sum);
+            }
+        }
+    }
+
+    private void mergePlaceholderUsage(@NotNull Map<String, Long> target, @NotNull Map<String, AtomicLong> source) {
+        for (Map.Entry<String, AtomicLong> entry : source.entrySet()) {
+            target.merge(entry.getKey(), entry.getValue().get(), Long::sum);
+        }
+    }
+
+    /**
+     * Returns all thread executors of this manager.
+     *
+     * @return  All thread executors of this manager
+     */
+    @NotNull
+    public List<ThreadExecutor> getThreadExecutors() {
+        return Arrays.asList(processingThread, placeholderThread, groupRefreshingThread, tablistEntryCheckThread,
+                pluginMessageEncodeThread, pluginMessageDecodeThread);
+    }
+
     /**
      * Cancels all tasks and shuts down thread pools
      */
@@ -79,6 +155,36 @@ public class CpuManager {
         groupRefreshingThread.shutdown();
         tablistEntryCheckThread.shutdown();
         pluginMessageDecodeThread.shutdown();
+        synchronized (this) {
+            shutdown = true;
+            if (timeoutScheduler != null) timeoutScheduler.shutdownNow();
+        }
+        SharedThreadPool.shutdown();
+    }
+
+    /**
+     * Schedules a timeout of an asynchronous request. Unlike tasks submitted to
+     * thread executors, returned future can be cancelled once the request completes,
+     * so completed requests do not leave pending tasks behind.
+     *
+     * @param   task
+     *          Task to run on timeout, must be thread-safe
+     * @param   delayMillis
+     *          Delay in milliseconds
+     * @return  Future of the task for cancelling it or {@code null} if this manager was shut down
+     */
+    @Nullable
+    public synchronized ScheduledFuture<?> scheduleTimeout(@NotNull Runnable task, int delayMillis) {
+        if (shutdown) return null;
+        if (timeoutScheduler == null) {
+            timeoutScheduler = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "TAB Timeout Scheduler Thread");
+                thread.setDaemon(true);
+                return thread;
+            });
+            timeoutScheduler.setRemoveOnCancelPolicy(true);
+        }
+        return timeoutScheduler.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -0,0 +1,65 @@
+package me.neznamy.tab.shared.cpu;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pre-registered CPU usage target of a feature and usage type. Caches the counter
+ * of the current tracking period to avoid map lookups on every measurement.
+ */
+@RequiredArgsConstructor
+public class CpuUsageHandle {
+
+    /** CPU manager to add time to */
+    @NotNull
+    private final CpuManager cpu;
+
+    /** Feature name to add CPU usage to */
+    @Getter
+    @NotNull
+    private final String feature;
+
+    /** Type of CPU usage of a feature */
+    @Getter
+    @NotNull
+    private final String usageType;
+
+    /** Counter of current tracking period */
+    private volatile Counter counter;
+
+    /**
+     * Adds cpu time to this feature and usage type.
+     *
+     * @param   nanoseconds
+     *          Time to add
+     */
+    public void addTime(long nanoseconds) {
+        if (!cpu.isTrackUsage()) return;
+        Map<String, Map<String, AtomicLong>> period = cpu.getFeatureUsageCurrent();
+        Counter counter = this.counter;
+        if (counter == null || counter.period != period) {
+            counter = new Counter(period, period.computeIfAbsent(feature, f -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(usageType, t -> new AtomicLong()));
+            this.counter = counter;
+        }
+        counter.time.addAndGet(nanoseconds);
+    }
+
+    /**
+     * Counter of a single tracking period.
+     */
+    @RequiredArgsConstructor
+    private static class Counter {
+
+        /** Usage map of the tracking period this counter belongs to */
+        private final Map<String, Map<String, AtomicLong>> period;
+
+        /** Time counter */
+        private final AtomicLong time;
+    }
+}
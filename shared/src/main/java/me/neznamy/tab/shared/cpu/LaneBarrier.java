@@ -0,0 +1,71 @@
+package me.neznamy.tab.shared.cpu;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Task running once all participating lanes reached it. Lanes which reached the barrier
+ * are paused until the task finishes, so it never runs in parallel with their tasks and
+ * sees all changes made by tasks queued in them before the barrier. The task runs in the
+ * thread of the last arriving participant, no thread is blocked while waiting.
+ */
+class LaneBarrier implements Runnable {
+
+    /** Task to run once all participants arrived */
+    @NotNull
+    private final Runnable task;
+
+    /** Amount of participants which did not arrive yet */
+    @NotNull
+    private final AtomicInteger remaining;
+
+    /** Lanes paused by this barrier */
+    private final Queue<SerialLane> pausedLanes = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   task
+     *          Task to run once all participants arrived
+     * @param   participants
+     *          Amount of participants
+     */
+    LaneBarrier(@NotNull Runnable task, int participants) {
+        this.task = task;
+        remaining = new AtomicInteger(participants);
+    }
+
+    /**
+     * Marks arrival of a participant which is not a lane and does not need to be paused.
+     */
+    @Override
+    public void run() {
+        arrive(null);
+    }
+
+    /**
+     * Marks arrival of a participant. If it is the last one, the task runs
+     * and all paused lanes are resumed.
+     *
+     * @param   lane
+     *          Arriving lane, {@code null} if participant is not a lane
+     * @return  {@code true} if this was the last participant and lane can continue,
+     *          {@code false} if lane is paused until the barrier completes
+     */
+    boolean arrive(@Nullable SerialLane lane) {
+        if (lane != null) pausedLanes.add(lane);
+        if (remaining.decrementAndGet() > 0) return false;
+        try {
+            task.run();
+        } finally {
+            for (SerialLane paused : pausedLanes) {
+                if (paused != lane) paused.resume();
+            }
+        }
+        return true;
+    }
+}
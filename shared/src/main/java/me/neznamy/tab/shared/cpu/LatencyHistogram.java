@@ -0,0 +1,117 @@
+package me.neznamy.tab.shared.cpu;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size log-linear histogram of latencies in nanoseconds. Every power of 2
+ * is split into 4 buckets, limiting the relative error of reported percentiles
+ * to 25% while recording stays allocation-free.
+ */
+public class LatencyHistogram {
+
+    /** Amount of buckets, enough to cover the entire positive long range */
+    private static final int BUCKET_COUNT = 248;
+
+    /** Amount of recorded values per bucket */
+    private final long[] buckets = new long[BUCKET_COUNT];
+
+    /** Amount of recorded values */
+    private long count;
+
+    /** Highest recorded value */
+    private long max;
+
+    /**
+     * Records a latency.
+     *
+     * @param   nanoseconds
+     *          Latency to record
+     */
+    public synchronized void record(long nanoseconds) {
+        if (nanoseconds < 0) nanoseconds = 0;
+        buckets[bucketIndex(nanoseconds)]++;
+        count++;
+        if (nanoseconds > max) max = nanoseconds;
+    }
+
+    /**
+     * Returns amount of values recorded since last reset.
+     *
+     * @return  Amount of recorded values
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Computes percentiles of all recorded values and resets the histogram.
+     *
+     * @return  Snapshot of recorded values
+     */
+    @NotNull
+    public synchronized Snapshot snapshotAndReset() {
+        Snapshot snapshot = new Snapshot(count, percentile(0.5), percentile(0.99), max);
+        Arrays.fill(buckets, 0);
+        count = 0;
+        max = 0;
+        return snapshot;
+    }
+
+    /**
+     * Returns upper bound of the bucket containing the requested percentile,
+     * capped by the highest recorded value.
+     *
+     * @param   percentile
+     *          Percentile to compute in range 0 - 1
+     * @return  Latency of requested percentile in nanoseconds
+     */
+    private long percentile(double percentile) {
+        if (count == 0) return 0;
+        long target = (long) Math.ceil(count * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= target) return Math.min(bucketUpperBound(i), max);
+        }
+        return max;
+    }
+
+    private static int bucketIndex(long value) {
+        if (value < 4) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - 2)) & 3;
+        return exponent * 4 + subBucket - 4;
+    }
+
+    private static long bucketUpperBound(int index) {
+        if (index < 4) return index;
+        int exponent = (index + 4) / 4;
+        int subBucket = (index + 4) % 4;
+        long lowerBound = (4L + subBucket) << (exponent - 2);
+        return lowerBound + (1L << (exponent - 2)) - 1;
+    }
+
+    /**
+     * Immutable result of a histogram period.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Snapshot {
+
+        /** Amount of recorded values */
+        private final long count;
+
+        /** Median latency in nanoseconds */
+        private final long p50;
+
+        /** 99th percentile latency in nanoseconds */
+        private final long p99;
+
+        /** Highest latency in nanoseconds */
+        private final long max;
+    }
+}
@@ -0,0 +1,128 @@
+package me.neznamy.tab.shared.cpu;
+
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread executor with additional lanes for tasks affecting a single player. Tasks
+ * of a player always run in the same lane, keeping their order, while tasks of different
+ * players may run in parallel. All lanes run on the {@link SharedThreadPool}, even if it
+ * is disabled in config, so amount of threads does not grow with amount of lanes.
+ * <p>
+ * Tasks submitted directly to this executor run exclusively. Once such task is reached,
+ * it waits until all player lanes finish tasks queued in them at that moment and player
+ * lanes do not start any other task until it finishes. It therefore sees all changes made
+ * by player tasks submitted before it and never runs in parallel with player tasks, without
+ * blocking any thread while waiting. Player tasks submitted while the task is waiting in
+ * the queue may run before it.
+ */
+public class PartitionedThreadExecutor extends ThreadExecutor {
+
+    /** Lanes for player tasks */
+    @NotNull
+    private final ThreadExecutor[] lanes;
+
+    /**
+     * Constructs new instance with given name and one player lane per CPU core.
+     * More lanes would not increase throughput, only make exclusive tasks wait
+     * for more lanes.
+     *
+     * @param   threadName
+     *          Name of the executor, lanes are suffixed with their number
+     */
+    public PartitionedThreadExecutor(@NotNull String threadName) {
+        super(threadName, true, new LongAdder(), new LongAdder());
+        lanes = new ThreadExecutor[Runtime.getRuntime().availableProcessors()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new ThreadExecutor(threadName + " #" + (i + 1), true, getMeasuredTasks(), getTotalLatency());
+        }
+    }
+
+    /**
+     * Returns lane for tasks affecting specified player.
+     *
+     * @param   player
+     *          Player affected by the task
+     * @return  Lane of the player
+     */
+    @NotNull
+    public ThreadExecutor forPlayer(@NotNull TabPlayer player) {
+        return lanes[(player.getUniqueId().hashCode() & Integer.MAX_VALUE) % lanes.length];
+    }
+
+    /**
+     * Shuts down the executor and all lanes. Lanes finish their queued tasks in
+     * parallel, sharing a single time limit.
+     */
+    @Override
+    public void shutdown() {
+        stopAccepting();
+        for (ThreadExecutor lane : lanes) {
+            lane.stopAccepting();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT);
+        awaitTermination(deadline);
+        for (ThreadExecutor lane : lanes) {
+            lane.awaitTermination(deadline);
+        }
+    }
+
+    @Override
+    @NotNull
+    protected Runnable prepare(@NotNull Runnable task) {
+        return new ExclusiveTask(task);
+    }
+
+    @Override
+    public void setMeasureLatency(boolean measureLatency) {
+        super.setMeasureLatency(measureLatency);
+        for (ThreadExecutor lane : lanes) {
+            lane.setMeasureLatency(measureLatency);
+        }
+    }
+
+    @Override
+    public int getQueueSize() {
+        int size = super.getQueueSize();
+        for (ThreadExecutor lane : lanes) {
+            size += lane.getQueueSize();
+        }
+        return size;
+    }
+
+    /**
+     * Task which pauses all player lanes and runs once all of them reached the pause.
+     * The lane of this executor is paused as well when reaching the task, so exclusive
+     * tasks keep their order.
+     */
+    @RequiredArgsConstructor
+    class ExclusiveTask implements Runnable {
+
+        /** Task to run exclusively */
+        @NotNull
+        private final Runnable task;
+
+        /**
+         * Pauses all player lanes with a barrier running the task.
+         *
+         * @return  Barrier which the caller must arrive at
+         */
+        @NotNull
+        LaneBarrier pauseLanes() {
+            LaneBarrier barrier = new LaneBarrier(task, lanes.length + 1);
+            for (ThreadExecutor lane : lanes) {
+                lane.pause(barrier);
+            }
+            return barrier;
+        }
+
+        @Override
+        public void run() {
+            pauseLanes().run();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package me.neznamy.tab.shared.cpu;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Mailbox running submitted tasks one at a time in submission order on the
+ * {@link SharedThreadPool}. At most one pool thread works on the lane at any
+ * moment, which gives the same guarantees as a single-threaded executor.
+ */
+@RequiredArgsConstructor
+class SerialLane {
+
+    /** Maximum amount of tasks processed before giving the pool thread to other lanes */
+    private static final int BATCH_SIZE = 16;
+
+    /** Pool to run tasks on */
+    @NotNull
+    private final SharedThreadPool pool;
+
+    /** Tasks waiting to be processed */
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+    /** Amount of tasks in the queue */
+    private final AtomicInteger queueSize = new AtomicInteger();
+
+    /** Amount of delayed tasks which were not submitted into the queue yet and repeating tasks */
+    private final AtomicInteger scheduledTasks = new AtomicInteger();
+
+    /** Flag tracking whether the lane is currently submitted to the pool or being processed */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /** Scheduled delayed and repeating tasks for cancelling on shutdown */
+    private final List<ScheduledFuture<?>> futures = new CopyOnWriteArrayList<>();
+
+    /** Flag tracking whether the lane was shut down */
+    private volatile boolean shutdown;
+
+    /**
+     * Adds task into the queue.
+     *
+     * @param   task
+     *          Task to run
+     */
+    public void execute(@NotNull Runnable task) {
+        if (shutdown) return;
+        enqueue(task);
+    }
+
+    /**
+     * Adds barrier into the queue. Tasks queued after it do not start until the barrier
+     * completes. Barriers are accepted even after shutdown, so lanes which were already
+     * shut down do not leave the barrier waiting forever.
+     *
+     * @param   barrier
+     *          Barrier to add
+     */
+    public void pause(@NotNull LaneBarrier barrier) {
+        enqueue(barrier);
+    }
+
+    /**
+     * Continues processing of tasks after the lane was paused by a {@link LaneBarrier}.
+     */
+    public void resume() {
+        release();
+    }
+
+    private void enqueue(@NotNull Runnable task) {
+        queue.add(task);
+        queueSize.incrementAndGet();
+        if (scheduled.compareAndSet(false, true)) {
+            pool.getPool().execute(this::drain);
+        }
+    }
+
+    /**
+     * Adds task into the queue after specified delay.
+     *
+     * @param   task
+     *          Task to run
+     * @param   delayMillis
+     *          Delay in milliseconds
+     */
+    public void schedule(@NotNull Runnable task, int delayMillis) {
+        if (shutdown) return;
+        scheduledTasks.incrementAndGet();
+        futures.removeIf(ScheduledFuture::isDone);
+        futures.add(pool.getScheduler().schedule(() -> {
+            scheduledTasks.decrementAndGet();
+            execute(task);
+        }, delayMillis, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Periodically adds task into the queue. If previous run of the task did not
+     * start yet, it is not added again to prevent tasks piling up in overloaded lane.
+     *
+     * @param   task
+     *          Task to run
+     * @param   intervalMillis
+     *          How often should the task run
+     */
+    public void scheduleAtFixedRate(@NotNull Runnable task, int intervalMillis) {
+        if (shutdown) return;
+        AtomicBoolean pending = new AtomicBoolean();
+        Runnable submit = () -> {
+            pending.set(false);
+            task.run();
+        };
+        scheduledTasks.incrementAndGet();
+        futures.add(pool.getScheduler().scheduleAtFixedRate(() -> {
+            if (pending.compareAndSet(false, true)) execute(submit);
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Stops accepting new tasks and cancels delayed and repeating tasks.
+     * Already queued tasks keep running.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (ScheduledFuture<?> future : futures) {
+            future.cancel(false);
+        }
+        futures.clear();
+        scheduledTasks.set(0);
+    }
+
+    /**
+     * Waits for queued tasks to finish after {@link #shutdown()}.
+     *
+     * @param   deadline
+     *          {@link System#nanoTime()} until which to wait for queued tasks
+     * @return  {@code true} if all tasks finished in time, {@code false} if remaining tasks were discarded
+     */
+    public boolean awaitTermination(long deadline) throws InterruptedException {
+        while (scheduled.get()) {
+            if (System.nanoTime() - deadline > 0) {
+                queue.clear();
+                queueSize.set(0);
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if the pool this lane runs on was shut down,
+     * {@code false} if not.
+     *
+     * @return  {@code true} if the pool was shut down, {@code false} if not
+     */
+    public boolean isPoolShutdown() {
+        return pool.isShutdown();
+    }
+
+    /**
+     * Returns amount of queued tasks, including delayed and repeating tasks.
+     *
+     * @return  Amount of tasks in the queue
+     */
+    public int getQueueSize() {
+        return queueSize.get() + scheduledTasks.get();
+    }
+
+    private void drain() {
+        boolean paused = false;
+        try {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                Runnable task = queue.poll();
+                if (task == null) break;
+                queueSize.decrementAndGet();
+                if (task instanceof PartitionedThreadExecutor.ExclusiveTask) {
+                    task = ((PartitionedThreadExecutor.ExclusiveTask) task).pauseLanes();
+                }
+                if (task instanceof LaneBarrier) {
+                    if (((LaneBarrier) task).arrive(this)) continue;
+                    // Lane stays marked as scheduled until the barrier resumes it
+                    paused = true;
+                    return;
+                }
+                task.run();
+            }
+        } finally {
+            if (!paused) release();
+        }
+    }
+
+    private void release() {
+        scheduled.set(false);
+        if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+            pool.getPool().execute(this::drain);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package me.neznamy.tab.shared.cpu;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.Setter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Work-stealing thread pool shared by all {@link ThreadExecutor} instances when
+ * enabled in config and by lanes of {@link PartitionedThreadExecutor} instances
+ * always. Each executor runs its tasks in a serial lane on this pool,
+ * keeping the single-threaded ordering guarantees features rely on while allowing
+ * idle threads to help with overloaded features.
+ */
+@Getter
+public class SharedThreadPool {
+
+    /**
+     * Minimum amount of worker threads. Tasks cannot be preempted, a few threads
+     * prevent a single long task from delaying all other lanes on machines with few cores.
+     */
+    private static final int MIN_THREADS = 4;
+
+    /** Whether executors created from now on should use the shared pool or their own thread */
+    @Setter
+    private static volatile boolean enabled;
+
+    /** Pool instance, created on first use */
+    @Nullable
+    private static SharedThreadPool instance;
+
+    /** Work-stealing pool running tasks of all lanes */
+    @NotNull
+    private final ForkJoinPool pool;
+
+    /** Scheduler submitting delayed and repeating tasks into their lanes */
+    @NotNull
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /** Flag tracking whether this pool was shut down */
+    private volatile boolean shutdown;
+
+    private SharedThreadPool() {
+        pool = new ForkJoinPool(Math.max(MIN_THREADS, Runtime.getRuntime().availableProcessors()), p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("TAB Worker Thread #" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, true);
+        scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().setNameFormat("TAB Scheduler Thread").setDaemon(true).build());
+        scheduler.setKeepAliveTime(1, TimeUnit.MINUTES);
+        scheduler.allowCoreThreadTimeOut(true);
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Returns shared pool if it is enabled, {@code null} if executors should use their own thread.
+     *
+     * @return  Shared pool or {@code null} if disabled
+     */
+    @Nullable
+    public static synchronized SharedThreadPool getIfEnabled() {
+        if (!enabled) return null;
+        return get();
+    }
+
+    /**
+     * Returns shared pool regardless of whether it is enabled in config,
+     * creating it if it does not exist.
+     *
+     * @return  Shared pool
+     */
+    @NotNull
+    public static synchronized SharedThreadPool get() {
+        if (instance == null) instance = new SharedThreadPool();
+        return instance;
+    }
+
+    /**
+     * Shuts down the pool if it was created. Lanes are expected to be shut down
+     * already, worker threads exit once they finish their current task. Next
+     * {@link #get()} call creates a new pool.
+     */
+    public static synchronized void shutdown() {
+        if (instance == null) return;
+        instance.shutdown = true;
+        instance.scheduler.shutdownNow();
+        instance.pool.shutdown();
+        instance = null;
+    }
+}
@@ -1,59 +1,182 @@
 package me.neznamy.tab.shared.cpu;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import me.neznamy.tab.shared.TAB;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Thread executor for accepting tasks to execute them in a single threaded executor.
- * All tasks are try/catch-ed and might track CPU usage if needed.
+ * All tasks are try/catch-ed and might track CPU usage if needed. If shared thread pool
+ * is enabled, tasks run in a serial lane on the {@link SharedThreadPool} instead of
+ * a dedicated thread, keeping the same ordering guarantees.
  */
 public class ThreadExecutor {
 
+    /** Maximum time in milliseconds to wait for queued tasks on shutdown */
+    protected static final int SHUTDOWN_TIMEOUT = 500;
+
+    @Getter
     private final String threadName;
-    private final ScheduledExecutorService executor;
+
+    /** Whether tasks always run on the shared thread pool, even if it is disabled in config */
+    private final boolean alwaysShared;
+
+    /** Dedicated thread executor, used if shared thread pool is disabled */
+    @Nullable
+    private volatile ScheduledThreadPoolExecutor executor;
+
+    /** Lane on the shared thread pool, used if it is enabled */
+    @Nullable
+    private volatile SerialLane lane;
+
+    /** Flag tracking whether the backing executor was created already */
+    private volatile boolean initialized;
+
+    /** Flag tracking whether this executor was shut down */
+    private volatile boolean shutdown;
+
+    /** Flag tracking whether queue latency of submitted tasks should be measured or not */
+    @Setter
+    private volatile boolean measureLatency;
+
+    /** Amount of tasks with measured queue latency */
+    @Getter
+    private final LongAdder measuredTasks;
+
+    /** Total queue latency of measured tasks in nanoseconds */
+    @Getter
+    private final LongAdder totalLatency;
 
     /**
-     * Constructs new instance and starts new thread executor with give name.
+     * Constructs new instance with given name. The backing thread or lane is created
+     * on first use, once it is known whether the shared thread pool is enabled.
      * 
      * @param   threadName
      *          Name of the created thread
      */
     public ThreadExecutor(@NotNull String threadName) {
+        this(threadName, false, new LongAdder(), new LongAdder());
+    }
+
+    /**
+     * Constructs new instance with given name, adding measured queue latency
+     * to given counters.
+     *
+     * @param   threadName
+     *          Name of the created thread
+     * @param   alwaysShared
+     *          Whether tasks should run on the shared thread pool even if it is disabled in config
+     * @param   measuredTasks
+     *          Counter of tasks with measured queue latency
+     * @param   totalLatency
+     *          Counter of total queue latency in nanoseconds
+     */
+    protected ThreadExecutor(@NotNull String threadName, boolean alwaysShared, @NotNull LongAdder measuredTasks, @NotNull LongAdder totalLatency) {
         this.threadName = threadName;
-        executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat(threadName).build());
+        this.alwaysShared = alwaysShared;
+        this.measuredTasks = measuredTasks;
+        this.totalLatency = totalLatency;
     }
 
     /**
-     * Shuts down the executor.
+     * Creates the backing executor if it was not created yet or if the shared
+     * thread pool it was running on was shut down, such as by a plugin reload.
+     */
+    private void initialize() {
+        if (initialized && (lane == null || !lane.isPoolShutdown())) return;
+        synchronized (this) {
+            if (initialized && (lane == null || !lane.isPoolShutdown())) return;
+            SharedThreadPool pool = alwaysShared ? SharedThreadPool.get() : SharedThreadPool.getIfEnabled();
+            if (pool != null) {
+                lane = new SerialLane(pool);
+            } else {
+                executor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().setNameFormat(threadName).build());
+                lane = null;
+            }
+            initialized = true;
+        }
+    }
+
+    /**
+     * Shuts down the executor, waiting up to {@link #SHUTDOWN_TIMEOUT} milliseconds
+     * for queued tasks to finish.
      */
-    @SneakyThrows
     public void shutdown() {
-        executor.shutdown();
-        if (!executor.awaitTermination(500, TimeUnit.MILLISECONDS)) {
-            TAB.getInstance().getErrorManager().printError("Soft shutdown of thread " + threadName + " exceeded time limit of 500ms, forcing shutdown. This may cause issues.", null);
+        stopAccepting();
+        awaitTermination(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT));
+    }
+
+    /**
+     * Stops accepting new tasks without waiting for queued tasks to finish.
+     */
+    protected void stopAccepting() {
+        shutdown = true;
+        if (!initialized) return;
+        if (lane != null) {
+            lane.shutdown();
+        } else {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Waits for queued tasks to finish after {@link #stopAccepting()}. Remaining
+     * tasks are discarded if they do not finish in time.
+     *
+     * @param   deadline
+     *          {@link System#nanoTime()} until which to wait for queued tasks
+     */
+    @SneakyThrows
+    protected void awaitTermination(long deadline) {
+        if (!initialized) return;
+        if (lane != null) {
+            if (!lane.awaitTermination(deadline)) {
+                TAB.getInstance().getErrorManager().printError("Soft shutdown of lane " + threadName + " exceeded time limit of " + SHUTDOWN_TIMEOUT + "ms, discarding remaining tasks. This may cause issues.", null);
+            }
+            return;
+        }
+        if (!executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            TAB.getInstance().getErrorManager().printError("Soft shutdown of thread " + threadName + " exceeded time limit of " + SHUTDOWN_TIMEOUT + "ms, forcing shutdown. This may cause issues.", null);
             executor.shutdownNow();
         }
     }
 
     public void execute(@NotNull Runnable task) {
-        if (executor.isShutdown()) return;
-        executor.execute(new CaughtTask(task));
+        submit(new CaughtTask(measureLatency ? measured(task, 0) : task));
     }
 
     public void execute(@NotNull TimedCaughtTask task) {
-        if (executor.isShutdown()) return;
-        executor.execute(task);
+        submit(measureLatency ? measured(task, 0) : task);
+    }
+
+    private void submit(@NotNull Runnable task) {
+        if (shutdown) return;
+        initialize();
+        Runnable runnable = prepare(task);
+        if (lane != null) {
+            lane.execute(runnable);
+        } else {
+            executor.execute(runnable);
+        }
     }
 
     public void executeLater(@NotNull TimedCaughtTask task, int delayMillis) {
-        if (executor.isShutdown()) return;
-        executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        if (shutdown) return;
+        initialize();
+        Runnable runnable = prepare(measureLatency ? measured(task, delayMillis) : task);
+        if (lane != null) {
+            lane.schedule(runnable, delayMillis);
+        } else {
+            executor.schedule(runnable, delayMillis, TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
@@ -65,7 +188,75 @@ public class ThreadExecutor {
      *          How often should the task run
      */
     public void repeatTask(@NotNull TimedCaughtTask task, int intervalMilliseconds) {
-        if (executor.isShutdown()) return;
-        executor.scheduleAtFixedRate(task, intervalMilliseconds, intervalMilliseconds, TimeUnit.MILLISECONDS);
+        if (shutdown) return;
+        initialize();
+        Runnable runnable = prepare(task);
+        if (lane != null) {
+            lane.scheduleAtFixedRate(runnable, intervalMilliseconds);
+        } else {
+            executor.scheduleAtFixedRate(runnable, intervalMilliseconds, intervalMilliseconds, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns task to put into the queue in place of submitted task. Repeating tasks
+     * are prepared once and the returned task runs periodically.
+     *
+     * @param   task
+     *          Submitted task
+     * @return  Task to put into the queue
+     */
+    @NotNull
+    protected Runnable prepare(@NotNull Runnable task) {
+        return task;
+    }
+
+    /**
+     * Adds barrier into the queue of this executor, pausing it until the barrier
+     * completes. Barriers are accepted even after shutdown. If tasks run on a dedicated
+     * thread, which cannot be paused, the executor arrives at the barrier immediately.
+     *
+     * @param   barrier
+     *          Barrier to add
+     */
+    void pause(@NotNull LaneBarrier barrier) {
+        initialize();
+        SerialLane lane = this.lane;
+        if (lane != null) {
+            lane.pause(barrier);
+        } else {
+            barrier.run();
+        }
+    }
+
+    /**
+     * Returns amount of tasks waiting in the queue, including scheduled
+     * delayed and repeating tasks.
+     *
+     * @return  Amount of tasks in the queue
+     */
+    public int getQueueSize() {
+        if (!initialized) return 0;
+        if (lane != null) return lane.getQueueSize();
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Wraps the task to measure how long it waited in the queue after it was supposed to run.
+     *
+     * @param   task
+     *          Task to wrap
+     * @param   delayMillis
+     *          Delay the task is scheduled with
+     * @return  Wrapped task
+     */
+    @NotNull
+    private Runnable measured(@NotNull Runnable task, int delayMillis) {
+        long expectedStart = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        return () -> {
+            totalLatency.add(Math.max(0, System.nanoTime() - expectedStart));
+            measuredTasks.increment();
+            task.run();
+        };
     }
 }
@@ -6,7 +6,9 @@ import me.neznamy.tab.shared.Property;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.chat.SimpleComponent;
+import me.neznamy.tab.shared.chat.TabComponent;
 import me.neznamy.tab.shared.config.files.config.HeaderFooterConfiguration;
+import me.neznamy.tab.shared.cpu.PartitionedThreadExecutor;
 import me.neznamy.tab.shared.cpu.ThreadExecutor;
 import me.neznamy.tab.shared.features.types.*;
 import me.neznamy.tab.shared.placeholders.conditions.Condition;
@@ -15,7 +17,10 @@ import me.neznamy.tab.shared.util.cache.StringToComponentCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -26,9 +31,10 @@ public class HeaderFooter extends RefreshableFeature implements HeaderFooterMana
 
     private final StringToComponentCache headerCache = new StringToComponentCache("Header", 1000);
     private final StringToComponentCache footerCache = new StringToComponentCache("Footer", 1000);
-    @Getter private final ThreadExecutor customThread = new ThreadExecutor("TAB Header/Footer Thread");
+    @Getter private final PartitionedThreadExecutor customThread = new PartitionedThreadExecutor("TAB Header/Footer Thread");
     private final HeaderFooterConfiguration configuration;
     private final DisableChecker disableChecker;
+    private final UpdateRateLimiter rateLimiter;
 
     /**
      * Constructs new instance and registers disable condition checker to feature manager.
@@ -38,6 +44,7 @@ public class HeaderFooter extends RefreshableFeature implements HeaderFooterMana
      */
     public HeaderFooter(@NotNull HeaderFooterConfiguration configuration) {
         this.configuration = configuration;
+        rateLimiter = new UpdateRateLimiter(this, configuration.minUpdateInterval);
         disableChecker = new DisableChecker(this, Condition.getCondition(configuration.disableCondition), this::onDisableConditionChange, p -> p.headerFooterData.disabled);
         TAB.getInstance().getFeatureManager().registerFeature(TabConstants.Feature.HEADER_FOOTER + "-Condition", disableChecker);
     }
@@ -45,10 +52,17 @@ public class HeaderFooter extends RefreshableFeature implements HeaderFooterMana
     @Override
     public void load() {
         for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) {
-            onJoin(p);
+            customThread.forPlayer(p).execute(() -> onJoin(p));
         }
     }
 
+    @Override
+    @NotNull
+    public ThreadExecutor getCustomThread(@NotNull TabPlayer player) {
+        // Header and footer of a player only depend on that player, players can be processed in parallel
+        return customThread.forPlayer(player);
+    }
+
     @Override
     public void unload() {
         for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) {
@@ -90,9 +104,24 @@ public class HeaderFooter extends RefreshableFeature implements HeaderFooterMana
 
     @Override
     public void refresh(@NotNull TabPlayer p, boolean force) {
+        if (!rateLimiter.tryUpdate(p, force)) return;
         sendHeaderFooter(p, p.headerFooterData.header.updateAndGet(), p.headerFooterData.footer.updateAndGet());
     }
 
+    @Override
+    public void refresh(@NotNull Collection<TabPlayer> players, boolean force) {
+        // Players mostly share the same texts, only look up each one in the shared caches once
+        Map<String, TabComponent> headers = new HashMap<>();
+        Map<String, TabComponent> footers = new HashMap<>();
+        for (TabPlayer p : players) {
+            if (!rateLimiter.tryUpdate(p, force)) continue;
+            String header = p.headerFooterData.header.updateAndGet();
+            String footer = p.headerFooterData.footer.updateAndGet();
+            if (p.headerFooterData.disabled.get()) continue;
+            p.getTabList().setPlayerListHeaderFooter(headers.computeIfAbsent(header, headerCache::get), footers.computeIfAbsent(footer, footerCache::get));
+        }
+    }
+
     @Override
     public void onGroupChange(@NotNull TabPlayer player) {
         if (updateProperties(player)) {
@@ -173,7 +202,7 @@ public class HeaderFooter extends RefreshableFeature implements HeaderFooterMana
     @Override
     public void setHeader(@NotNull me.neznamy.tab.api.TabPlayer p, @Nullable String header) {
         ensureActive();
-        customThread.execute(() -> {
+        customThread.forPlayer((TabPlayer) p).execute(() -> {
             TabPlayer player = (TabPlayer) p;
             player.headerFooterData.header.setTemporaryValue(header);
             sendHeaderFooter(player, player.headerFooterData.header.updateAndGet(), player.headerFooterData.footer.updateAndGet());
@@ -183,7 +212,7 @@ public class HeaderFooter extends RefreshableFeature implements HeaderFooterMana
     @Override
     public void setFooter(@NotNull me.neznamy.tab.api.TabPlayer p, @Nullable String footer) {
         ensureActive();
-        customThread.execute(() -> {
+        customThread.forPlayer((TabPlayer) p).execute(() -> {
             TabPlayer player = (TabPlayer) p;
             player.headerFooterData.footer.setTemporaryValue(footer);
             sendHeaderFooter(player, player.headerFooterData.header.updateAndGet(), player.headerFooterData.footer.updateAndGet());
@@ -193,7 +222,7 @@ public class HeaderFooter extends RefreshableFeature implements HeaderFooterMana
     @Override
     public void setHeaderAndFooter(@NotNull me.neznamy.tab.api.TabPlayer p, @Nullable String header, @Nullable String footer) {
         ensureActive();
-        customThread.execute(() -> {
+        customThread.forPlayer((TabPlayer) p).execute(() -> {
             TabPlayer player = (TabPlayer) p;
             player.headerFooterData.header.setTemporaryValue(header);
             player.headerFooterData.footer.setTemporaryValue(footer);
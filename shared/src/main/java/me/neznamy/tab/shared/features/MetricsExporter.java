@@ -0,0 +1,241 @@
+package me.neznamy.tab.shared.features;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.RequiredArgsConstructor;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.chat.EnumChatFormat;
+import me.neznamy.tab.shared.chat.TabComponent;
+import me.neznamy.tab.shared.config.files.config.MetricsConfiguration;
+import me.neznamy.tab.shared.cpu.CpuManager;
+import me.neznamy.tab.shared.cpu.ThreadExecutor;
+import me.neznamy.tab.shared.features.types.CustomThreaded;
+import me.neznamy.tab.shared.features.types.Loadable;
+import me.neznamy.tab.shared.features.types.TabFeature;
+import me.neznamy.tab.shared.features.types.UnLoadable;
+import me.neznamy.tab.shared.platform.TabList;
+import me.neznamy.tab.shared.platform.decorators.PacketCounter;
+import me.neznamy.tab.shared.platform.decorators.TrackedTabList;
+import me.neznamy.tab.shared.util.cache.Cache;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feature exposing plugin metrics in Prometheus text format on a HTTP server
+ * bound to localhost. Includes CPU usage of features and placeholders, thread
+ * executor queues, cache efficiency and sent packets.
+ */
+@RequiredArgsConstructor
+public class MetricsExporter extends TabFeature implements Loadable, UnLoadable {
+
+    /** Path metrics are available on */
+    private static final String PATH = "/metrics";
+
+    /** Content type of Prometheus text format */
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /** Configuration of this feature */
+    @NotNull
+    private final MetricsConfiguration configuration;
+
+    /** Running HTTP server, {@code null} if it failed to start */
+    @Nullable
+    private HttpServer server;
+
+    /** Executor handling HTTP requests */
+    @Nullable
+    private ExecutorService executor;
+
+    @Override
+    public void load() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), configuration.port), 0);
+        } catch (IOException | IllegalArgumentException e) {
+            TAB.getInstance().getPlatform().logWarn(TabComponent.fromColoredText(EnumChatFormat.RED +
+                    "Failed to start metrics exporter on port " + configuration.port + ": " + e.getMessage()));
+            return;
+        }
+        TAB.getInstance().getCPUManager().enableTracking();
+        PacketCounter.setEnabled(true);
+        Cache.setStatisticsEnabled(true);
+        for (ThreadExecutor threadExecutor : getThreadExecutors()) {
+            threadExecutor.setMeasureLatency(true);
+        }
+        executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("TAB Metrics Exporter Thread").setDaemon(true).build());
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+        server.start();
+    }
+
+    @Override
+    public void unload() {
+        if (server == null) return;
+        server.stop(0);
+        if (executor != null) executor.shutdownNow();
+        PacketCounter.setEnabled(false);
+        Cache.setStatisticsEnabled(false);
+        for (ThreadExecutor threadExecutor : getThreadExecutors()) {
+            threadExecutor.setMeasureLatency(false);
+        }
+    }
+
+    /**
+     * Returns thread executors of CPU manager and all features with their own thread.
+     * Each executor is only returned once, even if multiple features share it.
+     *
+     * @return  All thread executors of the plugin
+     */
+    @NotNull
+    private Set<ThreadExecutor> getThreadExecutors() {
+        Set<ThreadExecutor> executors = Collections.newSetFromMap(new IdentityHashMap<>());
+        executors.addAll(TAB.getInstance().getCPUManager().getThreadExecutors());
+        for (TabFeature feature : TAB.getInstance().getFeatureManager().getValues()) {
+            if (feature instanceof CustomThreaded) {
+                executors.add(((CustomThreaded) feature).getCustomThread());
+            }
+        }
+        return executors;
+    }
+
+    /**
+     * Handles HTTP request by responding with metrics.
+     *
+     * @param   exchange
+     *          HTTP exchange to handle
+     * @throws  IOException
+     *          If writing response fails
+     */
+    private void handle(@NotNull HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod()) || !PATH.equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] response = collect().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(response);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Collects all metrics in Prometheus text format.
+     *
+     * @return  All metrics in Prometheus text format
+     */
+    @NotNull
+    private String collect() {
+        StringBuilder out = new StringBuilder();
+        CpuManager cpu = TAB.getInstance().getCPUManager();
+
+        header(out, "tab_online_players", "gauge", "Amount of online players");
+        sample(out, "tab_online_players", Collections.emptyMap(), TAB.getInstance().getOnlinePlayers().length);
+
+        header(out, "tab_feature_cpu_seconds_total", "counter", "CPU time spent by features by usage type");
+        for (Map.Entry<String, Map<String, Long>> feature : new TreeMap<>(cpu.getFeatureUsageSinceEnable()).entrySet()) {
+            for (Map.Entry<String, Long> type : new TreeMap<>(feature.getValue()).entrySet()) {
+                sample(out, "tab_feature_cpu_seconds_total", labels("feature", feature.getKey(), "type", type.getKey()), seconds(type.getValue()));
+            }
+        }
+
+        header(out, "tab_placeholder_cpu_seconds_total", "counter", "CPU time spent refreshing placeholders");
+        for (Map.Entry<String, Long> placeholder : new TreeMap<>(cpu.getPlaceholderUsageSinceEnable()).entrySet()) {
+            sample(out, "tab_placeholder_cpu_seconds_total", labels("placeholder", placeholder.getKey()), seconds(placeholder.getValue()));
+        }
+
+        Set<ThreadExecutor> executors = getThreadExecutors();
+        header(out, "tab_executor_queued_tasks", "gauge", "Amount of tasks waiting in executor queue, including scheduled tasks");
+        for (ThreadExecutor executor : executors) {
+            sample(out, "tab_executor_queued_tasks", labels("executor", executor.getThreadName()), executor.getQueueSize());
+        }
+        header(out, "tab_executor_queue_latency_seconds", "summary", "Time tasks waited in executor queue before running");
+        for (ThreadExecutor executor : executors) {
+            Map<String, String> labels = labels("executor", executor.getThreadName());
+            sample(out, "tab_executor_queue_latency_seconds_sum", labels, seconds(executor.getTotalLatency().sum()));
+            sample(out, "tab_executor_queue_latency_seconds_count", labels, executor.getMeasuredTasks().sum());
+        }
+
+        header(out, "tab_cache_requests_total", "counter", "Cache requests by result");
+        for (Map.Entry<String, Cache.Statistics> cache : new TreeMap<>(Cache.getStatistics()).entrySet()) {
+            sample(out, "tab_cache_requests_total", labels("cache", cache.getKey(), "result", "hit"), cache.getValue().getHits().get());
+            sample(out, "tab_cache_requests_total", labels("cache", cache.getKey(), "result", "miss"), cache.getValue().getMisses().get());
+        }
+
+        header(out, "tab_packets_sent_total", "counter", "Packets sent to players by packet type");
+        for (Map.Entry<String, Long> packet : PacketCounter.getCounts().entrySet()) {
+            sample(out, "tab_packets_sent_total", labels("type", packet.getKey()), packet.getValue());
+        }
+
+        header(out, "tab_tablist_updates_skipped_total", "counter", "Tablist updates not sent because entry already had the value");
+        for (TabList.Action action : TabList.Action.values()) {
+            long skipped = TrackedTabList.getSuppressedUpdates(action);
+            if (skipped > 0) sample(out, "tab_tablist_updates_skipped_total", labels("action", action.name().toLowerCase(Locale.US)), skipped);
+        }
+        return out.toString();
+    }
+
+    private void header(@NotNull StringBuilder out, @NotNull String name, @NotNull String type, @NotNull String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private void sample(@NotNull StringBuilder out, @NotNull String name, @NotNull Map<String, String> labels, double value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, String> label : labels.entrySet()) {
+                if (!first) out.append(',');
+                first = false;
+                out.append(label.getKey()).append("=\"").append(escape(label.getValue())).append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ');
+        if (value == (long) value) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    @NotNull
+    private Map<String, String> labels(@NotNull String... keysAndValues) {
+        Map<String, String> labels = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            labels.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return labels;
+    }
+
+    @NotNull
+    private String escape(@NotNull String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private double seconds(long nanoseconds) {
+        return (double) nanoseconds / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    @Override
+    @NotNull
+    public String getFeatureName() {
+        return "Metrics exporter";
+    }
+}
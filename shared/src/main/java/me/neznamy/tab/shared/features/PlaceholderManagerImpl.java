@@ -2,7 +2,10 @@ package me.neznamy.tab.shared.features;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -18,12 +21,15 @@ import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants.CpuUsageCategory;
 import me.neznamy.tab.shared.config.files.config.PlaceholderRefreshConfiguration;
 import me.neznamy.tab.shared.cpu.CpuManager;
+import me.neznamy.tab.shared.cpu.ThreadExecutor;
 import me.neznamy.tab.shared.cpu.TimedCaughtTask;
 import me.neznamy.tab.shared.placeholders.PlaceholderRefreshTask;
+import me.neznamy.tab.shared.placeholders.PlaceholderRefreshWheel;
 import me.neznamy.tab.shared.placeholders.expansion.EmptyTabExpansion;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.event.impl.TabPlaceholderRegisterEvent;
 import me.neznamy.tab.shared.features.types.*;
+import me.neznamy.tab.shared.placeholders.types.AsyncPlayerPlaceholderImpl;
 import me.neznamy.tab.shared.placeholders.types.PlayerPlaceholderImpl;
 import me.neznamy.tab.shared.placeholders.types.RelationalPlaceholderImpl;
 import me.neznamy.tab.shared.placeholders.types.ServerPlaceholderImpl;
@@ -39,16 +45,51 @@ public class PlaceholderManagerImpl extends RefreshableFeature implements Placeh
 
     private static final Pattern placeholderPattern = Pattern.compile("%([^%]*)%");
 
+    /** How often are placeholder latencies evaluated in milliseconds */
+    private static final int LATENCY_EVALUATION_INTERVAL = 10000;
+
+    /** Minimum amount of requests required to evaluate placeholder latency */
+    private static final int MIN_LATENCY_SAMPLES = 10;
+
+    /** Maximum refresh interval slow placeholders can be backed off to */
+    private static final int MAX_BACKOFF_REFRESH = 60000;
+
     @NotNull private final PlaceholderRefreshConfiguration configuration;
 
     private final Map<String, Placeholder> registeredPlaceholders = new HashMap<>();
 
     //map of String-Set of features using placeholder
     private final Map<String, Set<RefreshableFeature>> placeholderUsage = new ConcurrentHashMap<>();
-    private Placeholder[] usedPlaceholders = new Placeholder[0];
+    private TabPlaceholder[] usedPlaceholders = new TabPlaceholder[0];
+
+    /** Timer wheel scheduling refreshing of used placeholders */
+    private final PlaceholderRefreshWheel refreshWheel = new PlaceholderRefreshWheel();
+
+    /** Flag tracking whether used placeholders or their refresh intervals changed since the wheel was scheduled */
+    private volatile boolean refreshWheelOutdated = true;
+
+    /** Lock for pending feature refreshes */
+    private final Object pendingRefreshLock = new Object();
+
+    /** Players to refresh features for at the end of current refresh cycle */
+    private Map<RefreshableFeature, Set<TabPlayer>> pendingRefresh = new HashMap<>();
+
+    /** Players to force refresh features for at the end of current refresh cycle */
+    private Map<RefreshableFeature, Set<TabPlayer>> pendingForceRefresh = new HashMap<>();
+
+    /** Flag tracking whether a task processing pending refreshes is already submitted */
+    private boolean refreshFlushScheduled;
 
     @Getter private int loopTime;
 
+    /**
+     * Counter increased on every placeholder registration and unregistration,
+     * allowing holders of placeholder references to detect they are outdated.
+     * It is shared by all instances, so references obtained before a reload
+     * never match generation of the new instance.
+     */
+    private static final AtomicInteger registrationGeneration = new AtomicInteger();
+
     @NotNull @Getter private final TabExpansion tabExpansion;
 
     private final CpuManager cpu;
@@ -68,13 +109,23 @@ public class PlaceholderManagerImpl extends RefreshableFeature implements Placeh
                 TAB.getInstance().getPlatform().createTabExpansion() : new EmptyTabExpansion();
     }
 
+    /**
+     * Returns current placeholder registration generation.
+     *
+     * @return  Current placeholder registration generation
+     */
+    public int getRegistrationGeneration() {
+        return registrationGeneration.get();
+    }
+
     private void refresh() {
-        loopTime += TabConstants.Placeholder.MINIMUM_REFRESH_INTERVAL;
-        List<Placeholder> placeholders = new ArrayList<>();
-        for (Placeholder placeholder : usedPlaceholders) {
-            if (placeholder.getRefresh() == -1 || loopTime % placeholder.getRefresh() != 0) continue;
-            placeholders.add(placeholder);
+        if (refreshWheelOutdated) {
+            refreshWheelOutdated = false;
+            refreshWheel.reschedule(usedPlaceholders);
         }
+        loopTime += TabConstants.Placeholder.MINIMUM_REFRESH_INTERVAL;
+        List<TabPlaceholder> placeholders = new ArrayList<>();
+        refreshWheel.advance(placeholders);
         if (placeholders.isEmpty()) return;
         PlaceholderRefreshTask task = new PlaceholderRefreshTask(placeholders);
         cpu.getPlaceholderThread().execute(new TimedCaughtTask(cpu, () -> {
@@ -86,52 +137,118 @@ public class PlaceholderManagerImpl extends RefreshableFeature implements Placeh
         }, getFeatureName(), CpuUsageCategory.PLACEHOLDER_REQUEST));
     }
 
+    /**
+     * Evaluates request latency of all used placeholders, slowing down refreshing
+     * of placeholders exceeding configured latency budget.
+     */
+    private void evaluateLatency() {
+        int budget = TAB.getInstance().getConfiguration().getConfig().getPlaceholders().slowPlaceholderBudget;
+        long budgetNanos = budget > 0 ? TimeUnit.MILLISECONDS.toNanos(budget) : Long.MAX_VALUE;
+        for (TabPlaceholder placeholder : usedPlaceholders) {
+            if (placeholder.getLatency().getCount() < MIN_LATENCY_SAMPLES) continue;
+            int previousRefresh = placeholder.getEffectiveRefresh();
+            if (placeholder.evaluateLatency(budgetNanos, MAX_BACKOFF_REFRESH)) {
+                TAB.getInstance().getErrorManager().slowPlaceholder(placeholder.getIdentifier(),
+                        (double) placeholder.getLastLatency().getP99() / TimeUnit.MILLISECONDS.toNanos(1), budget, placeholder.getEffectiveRefresh());
+            }
+            if (placeholder.getEffectiveRefresh() != previousRefresh) refreshWheelOutdated = true;
+        }
+    }
+
     private void processRefreshResults(@NotNull PlaceholderRefreshTask task) {
         long time = System.nanoTime();
-        Map<RefreshableFeature, Collection<TabPlayer>> update = new HashMap<>();
-        for (RefreshableFeature f : updateServerPlaceholders(task.getServerPlaceholderResults())) {
-            update.put(f, new HashSet<>(TAB.getInstance().getData().values()));
-        }
-        updatePlayerPlaceholders(task.getPlayerPlaceholderResults(), update);
-        Map<RefreshableFeature, Collection<TabPlayer>> forceUpdate = updateRelationalPlaceholders(task.getRelationalPlaceholderResults());
+        updateServerPlaceholders(task.getServerPlaceholderResults());
+        updatePlayerPlaceholders(task.getPlayerPlaceholderResults());
+        updateRelationalPlaceholders(task.getRelationalPlaceholderResults());
         cpu.addTime(getFeatureName(), CpuUsageCategory.PLACEHOLDER_SAVE, System.nanoTime() - time);
         cpu.addPlaceholderTimes(task.getUsedTime());
 
-        refreshFeatures(forceUpdate, update);
+        flushRefresh();
     }
-    
-    private void refreshFeatures(@NotNull Map<RefreshableFeature, Collection<TabPlayer>> forceUpdate, @NotNull Map<RefreshableFeature, Collection<TabPlayer>> update) {
-        for (Entry<RefreshableFeature, Collection<TabPlayer>> entry : update.entrySet()) {
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(), () -> {
-                for (TabPlayer player : entry.getValue()) {
-                    entry.getKey().refresh(player, false);
-                }
-            }, entry.getKey().getFeatureName(), entry.getKey().getRefreshDisplayName());
-            if (entry.getKey() instanceof CustomThreaded) {
-                ((CustomThreaded) entry.getKey()).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+
+    /**
+     * Marks feature to be refreshed for player because a placeholder it uses changed value.
+     * Refreshes requested until the end of current refresh cycle are merged, refreshing
+     * the feature only once for each player even if multiple placeholders changed.
+     *
+     * @param   feature
+     *          Feature to refresh
+     * @param   player
+     *          Player to refresh the feature for
+     * @param   force
+     *          Whether refresh should be forced or not
+     */
+    public void scheduleRefresh(@NotNull RefreshableFeature feature, @NotNull TabPlayer player, boolean force) {
+        synchronized (pendingRefreshLock) {
+            (force ? pendingForceRefresh : pendingRefresh).computeIfAbsent(feature, f -> new HashSet<>()).add(player);
+            if (refreshFlushScheduled) return;
+            refreshFlushScheduled = true;
         }
-        for (Entry<RefreshableFeature, Collection<TabPlayer>> entry : forceUpdate.entrySet()) {
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(), () -> {
-                for (TabPlayer player : entry.getValue()) {
-                    entry.getKey().refresh(player, true);
-                }
-            }, entry.getKey().getFeatureName(), entry.getKey().getRefreshDisplayName());
-            if (entry.getKey() instanceof CustomThreaded) {
-                ((CustomThreaded) entry.getKey()).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+        cpu.getProcessingThread().execute(new TimedCaughtTask(cpu, this::flushRefresh, getFeatureName(), CpuUsageCategory.PLACEHOLDER_SAVE));
+    }
+
+    /**
+     * Refreshes all features for players they were marked as changed for. Players with both
+     * forced and regular refresh pending only receive the forced refresh.
+     */
+    private void flushRefresh() {
+        Map<RefreshableFeature, Set<TabPlayer>> update;
+        Map<RefreshableFeature, Set<TabPlayer>> forceUpdate;
+        synchronized (pendingRefreshLock) {
+            refreshFlushScheduled = false;
+            if (pendingRefresh.isEmpty() && pendingForceRefresh.isEmpty()) return;
+            update = pendingRefresh;
+            forceUpdate = pendingForceRefresh;
+            pendingRefresh = new HashMap<>();
+            pendingForceRefresh = new HashMap<>();
+        }
+        for (Entry<RefreshableFeature, Set<TabPlayer>> entry : update.entrySet()) {
+            Set<TabPlayer> players = entry.getValue();
+            Set<TabPlayer> forced = forceUpdate.get(entry.getKey());
+            if (forced != null) players.removeAll(forced);
+            if (!players.isEmpty()) refreshFeature(entry.getKey(), players, false);
+        }
+        for (Entry<RefreshableFeature, Set<TabPlayer>> entry : forceUpdate.entrySet()) {
+            refreshFeature(entry.getKey(), entry.getValue(), true);
+        }
+    }
+
+    /**
+     * Refreshes feature for all given players. If the feature runs in its own thread,
+     * players are grouped by the thread the feature processes their tasks in.
+     *
+     * @param   feature
+     *          Feature to refresh
+     * @param   players
+     *          Players to refresh the feature for
+     * @param   force
+     *          Whether refresh should be forced or not
+     */
+    private void refreshFeature(@NotNull RefreshableFeature feature, @NotNull Collection<TabPlayer> players, boolean force) {
+        players.removeIf(player -> !player.isOnline()); // Player disconnected since the change
+        if (players.isEmpty()) return;
+        if (!(feature instanceof CustomThreaded)) {
+            refreshTask(feature, players, force).run();
+            return;
+        }
+        CustomThreaded threaded = (CustomThreaded) feature;
+        Map<ThreadExecutor, List<TabPlayer>> lanes = new IdentityHashMap<>();
+        for (TabPlayer player : players) {
+            lanes.computeIfAbsent(threaded.getCustomThread(player), t -> new ArrayList<>()).add(player);
+        }
+        for (Entry<ThreadExecutor, List<TabPlayer>> lane : lanes.entrySet()) {
+            lane.getKey().execute(refreshTask(feature, lane.getValue(), force));
         }
     }
 
     @NotNull
-    private Map<RefreshableFeature, Collection<TabPlayer>> updateRelationalPlaceholders(
-            @Nullable Map<RelationalPlaceholderImpl, Map<TabPlayer, Map<TabPlayer, String>>> results) {
-        if (results == null) return Collections.emptyMap();
-        Map<RefreshableFeature, Collection<TabPlayer>> update = new HashMap<>();
+    private TimedCaughtTask refreshTask(@NotNull RefreshableFeature feature, @NotNull Collection<TabPlayer> players, boolean force) {
+        return new TimedCaughtTask(TAB.getInstance().getCpu(), () -> feature.refresh(players, force),
+                feature.getFeatureName(), feature.getRefreshDisplayName());
+    }
+
+    private void updateRelationalPlaceholders(@Nullable Map<RelationalPlaceholderImpl, Map<TabPlayer, Map<TabPlayer, String>>> results) {
+        if (results == null) return;
         for (Entry<RelationalPlaceholderImpl, Map<TabPlayer, Map<TabPlayer, String>>> entry : results.entrySet()) {
             RelationalPlaceholderImpl placeholder = entry.getKey();
             Collection<RefreshableFeature> placeholderUsage = getPlaceholderUsage(placeholder.getIdentifier());
@@ -142,19 +259,16 @@ public class PlaceholderManagerImpl extends RefreshableFeature implements Placeh
                     TabPlayer target = targetResult.getKey();
                     if (!target.isOnline()) continue; // Player disconnected in the meantime while refreshing in another thread
                     if (placeholder.hasValueChanged(viewer, target, targetResult.getValue())) {
-                        placeholder.updateParents(target);
                         for (RefreshableFeature f : placeholderUsage) {
-                            update.computeIfAbsent(f, c -> new HashSet<>()).add(target);
+                            scheduleRefresh(f, target, true);
                         }
                     }
                 }
             }
         }
-        return update;
     }
 
-    private void updatePlayerPlaceholders(@NotNull Map<PlayerPlaceholderImpl, Map<TabPlayer, String>> results,
-                                          @NotNull Map<RefreshableFeature, Collection<TabPlayer>> update) {
+    private void updatePlayerPlaceholders(@NotNull Map<PlayerPlaceholderImpl, Map<TabPlayer, String>> results) {
         if (results.isEmpty()) return;
         for (Entry<PlayerPlaceholderImpl, Map<TabPlayer, String>> entry : results.entrySet()) {
             PlayerPlaceholderImpl placeholder = entry.getKey();
@@ -163,9 +277,8 @@ public class PlaceholderManagerImpl extends RefreshableFeature implements Placeh
                 TabPlayer player = playerResult.getKey();
                 if (!player.isOnline()) continue; // Player disconnected in the meantime while refreshing in another thread
                 if (placeholder.hasValueChanged(player, playerResult.getValue(), true)) {
-                    placeholder.updateParents(player);
                     for (RefreshableFeature f : placeholderUsage) {
-                        update.computeIfAbsent(f, c -> new HashSet<>()).add(player);
+                        scheduleRefresh(f, player, false);
                     }
                     if (placeholder.getIdentifier().equals(TabConstants.Placeholder.VANISHED)) {
                         TAB.getInstance().getFeatureManager().onVanishStatusChange(player);
@@ -178,19 +291,17 @@ public class PlaceholderManagerImpl extends RefreshableFeature implements Placeh
         }
     }
 
-    @NotNull
-    private Set<RefreshableFeature> updateServerPlaceholders(@NotNull Map<ServerPlaceholderImpl, String> results) {
-        Set<RefreshableFeature> set = new HashSet<>();
+    private void updateServerPlaceholders(@NotNull Map<ServerPlaceholderImpl, String> results) {
         for (Entry<ServerPlaceholderImpl, String> entry : results.entrySet()) {
             ServerPlaceholderImpl placeholder = entry.getKey();
             if (placeholder.hasValueChanged(entry.getValue())) {
-                set.addAll(getPlaceholderUsage(placeholder.getIdentifier()));
-                for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
-                    placeholder.updateParents(all);
+                for (RefreshableFeature f : getPlaceholderUsage(placeholder.getIdentifier())) {
+                    for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
+                        scheduleRefresh(f, all, false);
+                    }
                 }
             }
         }
-        return set;
     }
 
     /**
@@ -227,17 +338,13 @@ public class PlaceholderManagerImpl extends RefreshableFeature implements Placeh
     public synchronized <T extends Placeholder> T registerPlaceholder(@NotNull T placeholder) {
         boolean override = registeredPlaceholders.containsKey(placeholder.getIdentifier());
         registeredPlaceholders.put(placeholder.getIdentifier(), placeholder);
+        registrationGeneration.incrementAndGet();
         recalculateUsedPlaceholders();
         if (override && placeholderUsage.containsKey(placeholder.getIdentifier())) {
             for (TabPlayer p : TAB.getInstance().getOnlinePlayers()) {
                 if (!p.isLoaded()) continue;
                 for (RefreshableFeature f : placeholderUsage.get(placeholder.getIdentifier())) {
-                    TimedCaughtTask task = new TimedCaughtTask(cpu, () -> f.refresh(p, true), f.getFeatureName(), f.getRefreshDisplayName());
-                    if (f instanceof CustomThreaded) {
-                        ((CustomThreaded) f).getCustomThread().execute(task);
-                    } else {
-                        task.run();
-                    }
+                    scheduleRefresh(f, p, true);
                 }
             }
         }
@@ -248,6 +355,8 @@ public class PlaceholderManagerImpl extends RefreshableFeature implements Placeh
     public void load() {
         cpu.getProcessingThread().repeatTask(new TimedCaughtTask(cpu, this::refresh, getFeatureName(), CpuUsageCategory.PLACEHOLDER_REFRESH_INIT),
                 TabConstants.Placeholder.MINIMUM_REFRESH_INTERVAL);
+        cpu.getProcessingThread().repeatTask(new TimedCaughtTask(cpu, this::evaluateLatency, getFeatureName(), CpuUsageCategory.PLACEHOLDER_LATENCY),
+                LATENCY_EVALUATION_INTERVAL);
         for (Placeholder pl : usedPlaceholders) {
             if (pl instanceof ServerPlaceholderImpl) {
                 ((ServerPlaceholderImpl)pl).update();
@@ -308,7 +417,8 @@ public class PlaceholderManagerImpl extends RefreshableFeature implements Placeh
      * Updates array of used placeholders.
      */
     private void recalculateUsedPlaceholders() {
-        usedPlaceholders = placeholderUsage.keySet().stream().map(this::getPlaceholder).distinct().toArray(Placeholder[]::new);
+        usedPlaceholders = placeholderUsage.keySet().stream().map(this::getPlaceholder).distinct().toArray(TabPlaceholder[]::new);
+        refreshWheelOutdated = true;
     }
 
     /**
@@ -394,6 +504,13 @@ public class PlaceholderManagerImpl extends RefreshableFeature implements Placeh
         return registerPlaceholder(new PlayerPlaceholderImpl(identifier, refresh, function));
     }
 
+    @Override
+    public @NotNull AsyncPlayerPlaceholderImpl registerAsyncPlayerPlaceholder(@NonNull String identifier, int refresh, int timeout,
+                                                                              @NonNull Function<me.neznamy.tab.api.TabPlayer, CompletableFuture<String>> function) {
+        ensureActive();
+        return registerPlaceholder(new AsyncPlayerPlaceholderImpl(identifier, refresh, timeout, function));
+    }
+
     @Override
     public @NotNull RelationalPlaceholderImpl registerRelationalPlaceholder(
             @NonNull String identifier, int refresh, @NonNull BiFunction<me.neznamy.tab.api.TabPlayer, me.neznamy.tab.api.TabPlayer, String> function) {
@@ -437,6 +554,7 @@ public class PlaceholderManagerImpl extends RefreshableFeature implements Placeh
     public void unregisterPlaceholder(@NonNull String identifier) {
         ensureActive();
         registeredPlaceholders.remove(identifier);
+        registrationGeneration.incrementAndGet();
         placeholderUsage.remove(identifier);
         recalculateUsedPlaceholders();
     }
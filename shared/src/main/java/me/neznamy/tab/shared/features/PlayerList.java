@@ -27,6 +27,9 @@ import me.neznamy.tab.shared.util.cache.StringToComponentCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -128,6 +131,16 @@ public class PlayerList extends RefreshableFeature implements TabListFormatManag
             viewer.getTabList().updateDisplayName(tablistId, format ? getTabFormat(player, viewer) :
                     tablistId.getMostSignificantBits() == 0 ? new SimpleComponent(player.getName()) : null);
         }
+        sendRedisUpdate(player);
+    }
+
+    /**
+     * Sends current TabList format of player to other proxies if redis is enabled.
+     *
+     * @param   player
+     *          Player to send format of
+     */
+    private void sendRedisUpdate(@NotNull TabPlayer player) {
         if (redis != null) redis.sendMessage(new UpdateRedisPlayer(player.getUniqueId(), player.tablistData.prefix.get() +
                 player.tablistData.name.get() + player.tablistData.suffix.get()));
     }
@@ -238,7 +251,42 @@ public class PlayerList extends RefreshableFeature implements TabListFormatManag
 
     @Override
     public void refresh(@NotNull TabPlayer refreshed, boolean force) {
-        if (refreshed.tablistData.prefix == null) return; // Placeholder in condition on join
+        if (refreshProperties(refreshed, force)) {
+            updatePlayer(refreshed, true);
+        }
+    }
+
+    @Override
+    public void refresh(@NotNull Collection<TabPlayer> players, boolean force) {
+        List<TabPlayer> changed = new ArrayList<>();
+        for (TabPlayer refreshed : players) {
+            if (refreshProperties(refreshed, force)) changed.add(refreshed);
+        }
+        if (changed.isEmpty()) return;
+        // Go through viewers once and send all changed formats, instead of going through all viewers for every player
+        for (TabPlayer viewer : TAB.getInstance().getOnlinePlayers()) {
+            if (viewer.getVersion().getMinorVersion() < 8) continue;
+            for (TabPlayer player : changed) {
+                viewer.getTabList().updateDisplayName(getTablistUUID(player, viewer), getTabFormat(player, viewer));
+            }
+        }
+        for (TabPlayer player : changed) {
+            sendRedisUpdate(player);
+        }
+    }
+
+    /**
+     * Updates properties of player and returns {@code true} if format should be sent
+     * to viewers, {@code false} if not.
+     *
+     * @param   refreshed
+     *          Player to refresh properties of
+     * @param   force
+     *          Whether refresh should be forced or not
+     * @return  {@code true} if format should be sent, {@code false} if not
+     */
+    private boolean refreshProperties(@NotNull TabPlayer refreshed, boolean force) {
+        if (refreshed.tablistData.prefix == null) return false; // Placeholder in condition on join
         boolean refresh;
         if (force) {
             updateProperties(refreshed);
@@ -249,10 +297,7 @@ public class PlayerList extends RefreshableFeature implements TabListFormatManag
             boolean suffix = refreshed.tablistData.suffix.update();
             refresh = prefix || name || suffix;
         }
-        if (refreshed.tablistData.disabled.get()) return;
-        if (refresh) {
-            updatePlayer(refreshed, true);
-        }
+        return refresh && !refreshed.tablistData.disabled.get();
     }
 
     @Override
@@ -13,11 +13,13 @@ import me.neznamy.tab.shared.cpu.ThreadExecutor;
 import me.neznamy.tab.shared.features.bossbar.BossBarManagerImpl.BossBarProperties;
 import me.neznamy.tab.shared.features.types.CustomThreaded;
 import me.neznamy.tab.shared.features.types.RefreshableFeature;
+import me.neznamy.tab.shared.features.types.UpdateRateLimiter;
 import me.neznamy.tab.shared.placeholders.conditions.Condition;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class representing a BossBar from configuration
@@ -50,7 +52,7 @@ public class BossBarLine implements BossBar {
     @Getter private final boolean announcementBar;
 
     //set of players seeing this BossBar
-    private final Set<TabPlayer> players = new HashSet<>();
+    private final Set<TabPlayer> players = ConcurrentHashMap.newKeySet();
 
     //refreshers
     private final TextRefresher textRefresher;
@@ -295,9 +297,12 @@ public class BossBarLine implements BossBar {
 
     private class TextRefresher extends RefreshableFeature implements CustomThreaded {
 
+        private final UpdateRateLimiter rateLimiter = new UpdateRateLimiter(this, manager.getConfiguration().minUpdateInterval);
+
         @Override
         public void refresh(@NotNull TabPlayer refreshed, boolean force) {
             if (!refreshed.bossbarData.visibleBossBars.containsKey(BossBarLine.this)) return;
+            if (!rateLimiter.tryUpdate(refreshed, force)) return;
             refreshed.getBossBar().update(uniqueId, manager.getCache().get(refreshed.bossbarData.visibleBossBars.get(BossBarLine.this).textProperty.updateAndGet()));
         }
 
@@ -307,6 +312,12 @@ public class BossBarLine implements BossBar {
             return manager.getCustomThread();
         }
 
+        @Override
+        @NotNull
+        public ThreadExecutor getCustomThread(@NotNull TabPlayer player) {
+            return manager.getCustomThread(player);
+        }
+
         @NotNull
         @Override
         public String getFeatureName() {
@@ -322,9 +333,12 @@ public class BossBarLine implements BossBar {
 
     private class ProgressRefresher extends RefreshableFeature implements CustomThreaded {
 
+        private final UpdateRateLimiter rateLimiter = new UpdateRateLimiter(this, manager.getConfiguration().minUpdateInterval);
+
         @Override
         public void refresh(@NotNull TabPlayer refreshed, boolean force) {
             if (!refreshed.bossbarData.visibleBossBars.containsKey(BossBarLine.this)) return;
+            if (!rateLimiter.tryUpdate(refreshed, force)) return;
             refreshed.getBossBar().update(uniqueId, parseProgress(refreshed, refreshed.bossbarData.visibleBossBars.get(BossBarLine.this).progressProperty.updateAndGet())/100);
         }
 
@@ -334,6 +348,12 @@ public class BossBarLine implements BossBar {
             return manager.getCustomThread();
         }
 
+        @Override
+        @NotNull
+        public ThreadExecutor getCustomThread(@NotNull TabPlayer player) {
+            return manager.getCustomThread(player);
+        }
+
         @NotNull
         @Override
         public String getFeatureName() {
@@ -349,9 +369,12 @@ public class BossBarLine implements BossBar {
 
     private class ColorRefresher extends RefreshableFeature implements CustomThreaded {
 
+        private final UpdateRateLimiter rateLimiter = new UpdateRateLimiter(this, manager.getConfiguration().minUpdateInterval);
+
         @Override
         public void refresh(@NotNull TabPlayer refreshed, boolean force) {
             if (!refreshed.bossbarData.visibleBossBars.containsKey(BossBarLine.this)) return;
+            if (!rateLimiter.tryUpdate(refreshed, force)) return;
             refreshed.getBossBar().update(uniqueId, parseColor(refreshed, refreshed.bossbarData.visibleBossBars.get(BossBarLine.this).colorProperty.updateAndGet()));
         }
 
@@ -361,6 +384,12 @@ public class BossBarLine implements BossBar {
             return manager.getCustomThread();
         }
 
+        @Override
+        @NotNull
+        public ThreadExecutor getCustomThread(@NotNull TabPlayer player) {
+            return manager.getCustomThread(player);
+        }
+
         @NotNull
         @Override
         public String getFeatureName() {
@@ -376,9 +405,12 @@ public class BossBarLine implements BossBar {
 
     private class StyleRefresher extends RefreshableFeature implements CustomThreaded {
 
+        private final UpdateRateLimiter rateLimiter = new UpdateRateLimiter(this, manager.getConfiguration().minUpdateInterval);
+
         @Override
         public void refresh(@NotNull TabPlayer refreshed, boolean force) {
             if (!refreshed.bossbarData.visibleBossBars.containsKey(BossBarLine.this)) return;
+            if (!rateLimiter.tryUpdate(refreshed, force)) return;
             refreshed.getBossBar().update(uniqueId, parseStyle(refreshed, refreshed.bossbarData.visibleBossBars.get(BossBarLine.this).styleProperty.updateAndGet()));
         }
 
@@ -388,6 +420,12 @@ public class BossBarLine implements BossBar {
             return manager.getCustomThread();
         }
 
+        @Override
+        @NotNull
+        public ThreadExecutor getCustomThread(@NotNull TabPlayer player) {
+            return manager.getCustomThread(player);
+        }
+
         @NotNull
         @Override
         public String getFeatureName() {
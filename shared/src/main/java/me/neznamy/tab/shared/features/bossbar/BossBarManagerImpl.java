@@ -11,6 +11,7 @@ import me.neznamy.tab.api.bossbar.BossBar;
 import me.neznamy.tab.api.bossbar.BossBarManager;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.config.files.config.BossBarConfiguration;
+import me.neznamy.tab.shared.cpu.PartitionedThreadExecutor;
 import me.neznamy.tab.shared.cpu.ThreadExecutor;
 import me.neznamy.tab.shared.cpu.TimedCaughtTask;
 import me.neznamy.tab.shared.platform.TabPlayer;
@@ -19,6 +20,7 @@ import me.neznamy.tab.shared.util.cache.StringToComponentCache;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -29,7 +31,7 @@ public class BossBarManagerImpl extends RefreshableFeature implements BossBarMan
         QuitListener, CustomThreaded {
 
     @Getter private final StringToComponentCache cache = new StringToComponentCache("BossBar", 1000);
-    @Getter private final ThreadExecutor customThread = new ThreadExecutor("TAB BossBar Thread");
+    @Getter private final PartitionedThreadExecutor customThread = new PartitionedThreadExecutor("TAB BossBar Thread");
 
     //default BossBars
     private final List<String> defaultBars = new ArrayList<>();
@@ -44,7 +46,7 @@ public class BossBarManagerImpl extends RefreshableFeature implements BossBarMan
     private final String toggleOffMessage = TAB.getInstance().getConfiguration().getMessages().getBossBarOff();
 
     //list of currently running BossBar announcements
-    @Getter private final List<BossBar> announcedBossBars = new ArrayList<>();
+    @Getter private final List<BossBar> announcedBossBars = new CopyOnWriteArrayList<>();
 
     //players with toggled BossBar
     private final List<String> bossBarOffPlayers;
@@ -60,8 +62,8 @@ public class BossBarManagerImpl extends RefreshableFeature implements BossBarMan
      */
     public BossBarManagerImpl(@NonNull BossBarConfiguration configuration) {
         this.configuration = configuration;
-        bossBarOffPlayers = configuration.rememberToggleChoice ? TAB.getInstance().getConfiguration().getPlayerDataFile()
-                .getStringList("bossbar-off", new ArrayList<>()) : Collections.emptyList();
+        bossBarOffPlayers = configuration.rememberToggleChoice ? Collections.synchronizedList(new ArrayList<>(TAB.getInstance().getConfiguration().getPlayerDataFile()
+                .getStringList("bossbar-off", new ArrayList<>()))) : Collections.emptyList();
         for (Map.Entry<String, BossBarConfiguration.BossBarDefinition> entry : configuration.bars.entrySet()) {
             String name = entry.getKey();
             registeredBossBars.put(name, new BossBarLine(this, name, entry.getValue()));
@@ -70,6 +72,13 @@ public class BossBarManagerImpl extends RefreshableFeature implements BossBarMan
         lineValues = registeredBossBars.values().toArray(new BossBar[0]);
     }
 
+    @Override
+    @NotNull
+    public ThreadExecutor getCustomThread(@NotNull TabPlayer player) {
+        // Boss bars of a player only depend on that player, players can be processed in parallel
+        return customThread.forPlayer(player);
+    }
+
     @Override
     public void load() {
         TAB.getInstance().getPlaceholderManager().registerServerPlaceholder(TabConstants.Placeholder.COUNTDOWN, 100, () -> {
@@ -253,7 +262,9 @@ public class BossBarManagerImpl extends RefreshableFeature implements BossBarMan
     }
 
     private void savePlayers() {
-        TAB.getInstance().getConfiguration().getPlayerDataFile().set("bossbar-off", new ArrayList<>(bossBarOffPlayers));
+        synchronized (bossBarOffPlayers) {
+            TAB.getInstance().getConfiguration().getPlayerDataFile().set("bossbar-off", new ArrayList<>(bossBarOffPlayers));
+        }
     }
 
     @Override
@@ -262,8 +273,9 @@ public class BossBarManagerImpl extends RefreshableFeature implements BossBarMan
         BossBar line = registeredBossBars.get(bossBar);
         if (line == null) throw new IllegalArgumentException("No registered BossBar found with name " + bossBar);
         if (!hasBossBarVisible(player)) return;
-        customThread.execute(new TimedCaughtTask(TAB.getInstance().getCpu(), () -> line.addPlayer(player), getFeatureName(), "Adding temporary BossBar"));
-        customThread.executeLater(new TimedCaughtTask(TAB.getInstance().getCpu(), () -> {
+        ThreadExecutor thread = customThread.forPlayer((TabPlayer) player);
+        thread.execute(new TimedCaughtTask(TAB.getInstance().getCpu(), () -> line.addPlayer(player), getFeatureName(), "Adding temporary BossBar"));
+        thread.executeLater(new TimedCaughtTask(TAB.getInstance().getCpu(), () -> {
             if (((TabPlayer)player).isOnline()) line.removePlayer(player);
         }, getFeatureName(), "Removing temporary BossBar"), duration*1000);
     }
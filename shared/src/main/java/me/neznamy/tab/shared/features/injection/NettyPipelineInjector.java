@@ -13,6 +13,7 @@ import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.platform.decorators.SafeScoreboard;
 import me.neznamy.tab.shared.platform.decorators.TrackedTabList;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.NoSuchElementException;
 import java.util.function.Function;
@@ -54,30 +55,65 @@ public abstract class NettyPipelineInjector extends PipelineInjector {
         }
     }
 
+    /**
+     * Type of handling a packet class requires.
+     */
+    public enum PacketHandler {
+
+        /** Packet is not processed by the plugin */
+        IGNORED,
+
+        /** Packet is forwarded to player's tablist */
+        TABLIST,
+
+        /** Packet is forwarded to player's scoreboard */
+        SCOREBOARD
+    }
+
+    /**
+     * Holder of resolved packet handler for a packet class. Handler is resolved
+     * lazily on first packet of the class using decorators of the receiving player.
+     */
+    private static class PacketHandlerSlot {
+
+        /** Resolved handler, {@code null} if not resolved yet */
+        @Nullable
+        private volatile PacketHandler handler;
+    }
+
     /**
      * TAB's custom channel duplex handler.
      */
     @RequiredArgsConstructor
     public static class TabChannelDuplexHandler extends ChannelDuplexHandler {
 
+        /** Packet handler slots by packet class */
+        private static final ClassValue<PacketHandlerSlot> packetHandlers = new ClassValue<PacketHandlerSlot>() {
+
+            @Override
+            protected PacketHandlerSlot computeValue(Class<?> type) {
+                return new PacketHandlerSlot();
+            }
+        };
+
+        /** Only every n-th processed packet is timed to reduce overhead of CPU usage tracking, must be a power of 2 */
+        private static final int CPU_SAMPLE_RATE = 16;
+
         /** Injected player */
         protected final TabPlayer player;
 
+        /** Counter of processed packets for sampling CPU usage, only accessed from channel's event loop */
+        private int processedPackets;
+
         @Override
         public void write(ChannelHandlerContext context, Object packet, ChannelPromise channelPromise) {
-            try {
-                if (player.getVersion().getMinorVersion() >= 8) {
-                    long time = System.nanoTime();
-                    ((TrackedTabList<?, ?>)player.getTabList()).onPacketSend(packet);
-                    TAB.getInstance().getCPUManager().addTime("Pipeline injection", CpuUsageCategory.ANTI_OVERRIDE_TABLIST_PACKET, System.nanoTime()-time);
+            PacketHandler handler = getHandler(packet.getClass());
+            if (handler != PacketHandler.IGNORED) {
+                try {
+                    handle(handler, packet);
+                } catch (Throwable e) {
+                    TAB.getInstance().getErrorManager().printError("An error occurred when reading packets", e);
                 }
-                if (((SafeScoreboard<?>)player.getScoreboard()).isAntiOverrideTeams() || ((SafeScoreboard<?>)player.getScoreboard()).isAntiOverrideScoreboard()) {
-                    long time = System.nanoTime();
-                    ((SafeScoreboard<?>)player.getScoreboard()).onPacketSend(packet);
-                    TAB.getInstance().getCPUManager().addTime("Pipeline injection", CpuUsageCategory.ANTI_OVERRIDE_SCOREBOARDS_PACKET, System.nanoTime()-time);
-                }
-            } catch (Throwable e) {
-                TAB.getInstance().getErrorManager().printError("An error occurred when reading packets", e);
             }
             try {
                 super.write(context, packet, channelPromise);
@@ -85,5 +121,54 @@ public abstract class NettyPipelineInjector extends PipelineInjector {
                 TAB.getInstance().getErrorManager().printError(String.format("Failed to forward packet %s to %s", packet.getClass().getSimpleName(), player.getName()), e);
             }
         }
+
+        /**
+         * Returns handler for given packet class. If it was not resolved yet,
+         * it is resolved using this player's tablist and scoreboard.
+         *
+         * @param   packetClass
+         *          Class of the packet
+         * @return  Handler for the packet class
+         */
+        @NotNull
+        private PacketHandler getHandler(@NotNull Class<?> packetClass) {
+            PacketHandlerSlot slot = packetHandlers.get(packetClass);
+            PacketHandler handler = slot.handler;
+            if (handler == null) {
+                if (((TrackedTabList<?, ?>)player.getTabList()).isPacketTracked(packetClass)) {
+                    handler = PacketHandler.TABLIST;
+                } else if (((SafeScoreboard<?>)player.getScoreboard()).isPacketTracked(packetClass)) {
+                    handler = PacketHandler.SCOREBOARD;
+                } else {
+                    handler = PacketHandler.IGNORED;
+                }
+                slot.handler = handler;
+            }
+            return handler;
+        }
+
+        /**
+         * Forwards packet to player's tablist or scoreboard based on handler
+         * and samples how long it took.
+         *
+         * @param   handler
+         *          Handler of the packet
+         * @param   packet
+         *          Packet to handle
+         */
+        private void handle(@NotNull PacketHandler handler, @NotNull Object packet) {
+            boolean sample = (++processedPackets & (CPU_SAMPLE_RATE - 1)) == 0;
+            long time = sample ? System.nanoTime() : 0;
+            if (handler == PacketHandler.TABLIST) {
+                if (player.getVersion().getMinorVersion() < 8) return;
+                ((TrackedTabList<?, ?>)player.getTabList()).onPacketSend(packet);
+                if (sample) TAB.getInstance().getCPUManager().addTime("Pipeline injection", CpuUsageCategory.ANTI_OVERRIDE_TABLIST_PACKET, (System.nanoTime()-time) * CPU_SAMPLE_RATE);
+            } else {
+                SafeScoreboard<?> scoreboard = (SafeScoreboard<?>) player.getScoreboard();
+                if (!scoreboard.isAntiOverrideTeams() && !scoreboard.isAntiOverrideScoreboard()) return;
+                scoreboard.onPacketSend(packet);
+                if (sample) TAB.getInstance().getCPUManager().addTime("Pipeline injection", CpuUsageCategory.ANTI_OVERRIDE_SCOREBOARDS_PACKET, (System.nanoTime()-time) * CPU_SAMPLE_RATE);
+            }
+        }
     }
 }
@@ -32,13 +32,22 @@ public class CollisionManager extends RefreshableFeature implements JoinListener
 
     @Override
     public void load() {
-        TAB.getInstance().getPlaceholderManager().registerPlayerPlaceholder(TabConstants.Placeholder.COLLISION, 500, p -> {
+        // With disguise changes reported by events, only the condition itself needs to be refreshed
+        boolean eventDriven = TAB.getInstance().getPlatform().hasStateChangeEvent(TabConstants.Placeholder.COLLISION);
+        int refresh = eventDriven ? enableCollision.getRefresh() : 500;
+        TAB.getInstance().getPlaceholderManager().registerPlayerPlaceholder(TabConstants.Placeholder.COLLISION, refresh, p -> {
             TabPlayer player = (TabPlayer) p;
             if (player.teamData.forcedCollision != null) return Boolean.toString(player.teamData.forcedCollision);
             boolean newCollision = !((TabPlayer)p).isDisguised() && enableCollision.isMet((TabPlayer) p);
             player.teamData.collisionRule = newCollision;
             return Boolean.toString(newCollision);
         });
+        if (eventDriven) {
+            // Re-evaluate collision when any placeholder used in the condition changes value
+            for (String placeholder : enableCollision.getPlaceholdersInConditions()) {
+                TAB.getInstance().getPlaceholderManager().getPlaceholder(placeholder).addParent(TabConstants.Placeholder.COLLISION);
+            }
+        }
         addUsedPlaceholder(TabConstants.Placeholder.COLLISION);
         for (TabPlayer all : nameTags.getOnlinePlayers().getPlayers()) {
             onJoin(all);
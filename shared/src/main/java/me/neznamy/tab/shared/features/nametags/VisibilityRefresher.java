@@ -25,7 +25,8 @@ public class VisibilityRefresher extends RefreshableFeature implements CustomThr
      */
     public VisibilityRefresher(@NotNull NameTag nameTags) {
         this.nameTags = nameTags;
-        int refresh = TAB.getInstance().getPlatform().isProxy() ? -1 : 500;
+        int refresh = TAB.getInstance().getPlatform().isProxy() ||
+                TAB.getInstance().getPlatform().hasStateChangeEvent(TabConstants.Placeholder.INVISIBLE) ? -1 : 500;
         TAB.getInstance().getPlaceholderManager().registerPlayerPlaceholder(TabConstants.Placeholder.INVISIBLE, refresh,
                 p -> Boolean.toString(((TabPlayer)p).hasInvisibilityPotion()));
         addUsedPlaceholder(TabConstants.Placeholder.INVISIBLE);
@@ -37,10 +37,12 @@ public class ScoreRefresher extends RefreshableFeature implements CustomThreaded
     public void refresh(@NotNull TabPlayer refreshed, boolean force) {
         if (refreshed.scoreboardData.activeScoreboard != line.getParent()) return; //player has different scoreboard displayed
         if (refreshed.scoreboardData.numberFormatProperties.get(line) == null) return; // Shrug
+        int number = line.getNumber(refreshed);
+        refreshed.scoreboardData.sentScores.put(line, number);
         refreshed.getScoreboard().setScore(
                 ScoreboardManagerImpl.OBJECTIVE_NAME,
                 line.getPlayerName(refreshed),
-                line.getNumber(refreshed),
+                number,
                 null,
                 getNumberFormat(refreshed)
         );
@@ -74,6 +76,12 @@ public class ScoreRefresher extends RefreshableFeature implements CustomThreaded
         return line.getCustomThread();
     }
 
+    @Override
+    @NotNull
+    public ThreadExecutor getCustomThread(@NotNull TabPlayer player) {
+        return line.getCustomThread(player);
+    }
+
     @NotNull
     @Override
     public String getFeatureName() {
@@ -44,7 +44,7 @@ public class ScoreboardImpl extends RefreshableFeature implements me.neznamy.tab
     private final List<Line> lines = new ArrayList<>();
 
     //players currently seeing this scoreboard
-    private final Set<TabPlayer> players = Collections.newSetFromMap(new WeakHashMap<>());
+    private final Set<TabPlayer> players = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
 
     /**
      * Constructs new instance with given parameters and registers lines to feature manager
@@ -168,6 +168,8 @@ public class ScoreboardImpl extends RefreshableFeature implements me.neznamy.tab
         p.scoreboardData.lineProperties.clear();
         p.scoreboardData.lineNameProperties.clear();
         p.scoreboardData.numberFormatProperties.clear();
+        p.scoreboardData.sentLineTexts.clear();
+        p.scoreboardData.sentScores.clear();
         TAB.getInstance().getPlaceholderManager().getTabExpansion().setScoreboardName(p, "");
     }
 
@@ -190,26 +192,20 @@ public class ScoreboardImpl extends RefreshableFeature implements me.neznamy.tab
 
     /**
      * Recalculate scores for each line if using numbers. This takes into
-     * consideration lines that are not visible.
+     * consideration lines that are not visible. Scores are only sent for
+     * lines whose position changed.
      *
      * @param   p
      *          Player to recalculate scores for
      */
     public void recalculateScores(@NonNull TabPlayer p) {
         if (!manager.getConfiguration().useNumbers) return;
-        List<Line> linesReversed = new ArrayList<>(lines);
-        Collections.reverse(linesReversed);
         int score = manager.getConfiguration().staticNumber;
-        for (Line line : linesReversed) {
-            Property pr = p.scoreboardData.lineProperties.get((ScoreboardLine) line);
-            if (pr.getCurrentRawValue().isEmpty() || (!pr.getCurrentRawValue().isEmpty() && !pr.get().isEmpty())) {
-                p.getScoreboard().setScore(
-                        ScoreboardManagerImpl.OBJECTIVE_NAME,
-                        ((ScoreboardLine)line).getPlayerName(p),
-                        score++,
-                        null, // Makes no sense for TAB
-                        ((ScoreboardLine) line).getScoreRefresher().getNumberFormat(p)
-                );
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            ScoreboardLine line = (ScoreboardLine) lines.get(i);
+            Property pr = p.scoreboardData.lineProperties.get(line);
+            if (pr.getCurrentRawValue().isEmpty() || !pr.get().isEmpty()) {
+                line.updateScore(p, score++);
             }
         }
     }
@@ -238,7 +234,7 @@ public class ScoreboardImpl extends RefreshableFeature implements me.neznamy.tab
     public void setTitle(@NonNull String title) {
         ensureActive();
         this.title = title;
-        for (TabPlayer p : players) {
+        for (TabPlayer p : players.toArray(new TabPlayer[0])) {
             p.scoreboardData.titleProperty.changeRawValue(title);
             p.getScoreboard().updateObjective(
                     ScoreboardManagerImpl.OBJECTIVE_NAME,
@@ -255,7 +251,7 @@ public class ScoreboardImpl extends RefreshableFeature implements me.neznamy.tab
         StableDynamicLine line = new StableDynamicLine(this, lines.size()+1, text);
         TAB.getInstance().getFeatureManager().registerFeature(TabConstants.Feature.scoreboardLine(name, lines.size()), line);
         lines.add(line);
-        for (TabPlayer p : players) {
+        for (TabPlayer p : players.toArray(new TabPlayer[0])) {
             line.register(p);
             recalculateScores(p);
         }
@@ -267,7 +263,7 @@ public class ScoreboardImpl extends RefreshableFeature implements me.neznamy.tab
         if (index < 0 || index >= lines.size()) throw new IndexOutOfBoundsException("Index " + index + " is out of range (0 - " + (lines.size()-1) + ")");
         ScoreboardLine line = (ScoreboardLine) lines.get(index);
         lines.remove(line);
-        for (TabPlayer p : players) {
+        for (TabPlayer p : players.toArray(new TabPlayer[0])) {
             line.unregister(p);
             recalculateScores(p);
         }
@@ -288,4 +284,10 @@ public class ScoreboardImpl extends RefreshableFeature implements me.neznamy.tab
     public ThreadExecutor getCustomThread() {
         return manager.getCustomThread();
     }
+
+    @Override
+    @NotNull
+    public ThreadExecutor getCustomThread(@NotNull TabPlayer player) {
+        return manager.getCustomThread(player);
+    }
 }
\ No newline at end of file
@@ -8,6 +8,7 @@ import me.neznamy.tab.api.scoreboard.ScoreboardManager;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.config.files.config.ScoreboardConfiguration;
 import me.neznamy.tab.shared.config.files.config.ScoreboardConfiguration.ScoreboardDefinition;
+import me.neznamy.tab.shared.cpu.PartitionedThreadExecutor;
 import me.neznamy.tab.shared.cpu.ThreadExecutor;
 import me.neznamy.tab.shared.cpu.TimedCaughtTask;
 import me.neznamy.tab.shared.features.scoreboard.lines.ScoreboardLine;
@@ -36,7 +37,7 @@ public class ScoreboardManagerImpl extends RefreshableFeature implements Scorebo
     private final StringToComponentCache cache = new StringToComponentCache("Scoreboard", 1000);
 
     @Getter
-    private final ThreadExecutor customThread = new ThreadExecutor("TAB Scoreboard Thread");
+    private final PartitionedThreadExecutor customThread = new PartitionedThreadExecutor("TAB Scoreboard Thread");
 
     @Getter
     private final ScoreboardConfiguration configuration;
@@ -60,8 +61,15 @@ public class ScoreboardManagerImpl extends RefreshableFeature implements Scorebo
      */
     public ScoreboardManagerImpl(@NotNull ScoreboardConfiguration configuration) {
         this.configuration = configuration;
-        sbOffPlayers = configuration.rememberToggleChoice ? TAB.getInstance().getConfiguration().getPlayerDataFile()
-                .getStringList("scoreboard-off", new ArrayList<>()) : Collections.emptyList();
+        sbOffPlayers = configuration.rememberToggleChoice ? Collections.synchronizedList(new ArrayList<>(TAB.getInstance().getConfiguration().getPlayerDataFile()
+                .getStringList("scoreboard-off", new ArrayList<>()))) : Collections.emptyList();
+    }
+
+    @Override
+    @NotNull
+    public ThreadExecutor getCustomThread(@NotNull TabPlayer player) {
+        // Scoreboard of a player only depends on that player, players can be processed in parallel
+        return customThread.forPlayer(player);
     }
 
     @Override
@@ -98,7 +106,7 @@ public class ScoreboardManagerImpl extends RefreshableFeature implements Scorebo
         TAB.getInstance().getPlaceholderManager().getTabExpansion().setScoreboardVisible(connectedPlayer, false);
         if (configuration.joinDelay > 0) {
             connectedPlayer.scoreboardData.joinDelayed = true;
-            customThread.executeLater(new TimedCaughtTask(TAB.getInstance().getCpu(), () -> {
+            customThread.forPlayer(connectedPlayer).executeLater(new TimedCaughtTask(TAB.getInstance().getCpu(), () -> {
                 if (connectedPlayer.scoreboardData.otherPluginScoreboard == null)
                     setScoreboardVisible(connectedPlayer, configuration.hiddenByDefault == sbOffPlayers.contains(connectedPlayer.getName()), false);
                 connectedPlayer.scoreboardData.joinDelayed = false;
@@ -395,5 +403,13 @@ public class ScoreboardManagerImpl extends RefreshableFeature implements Scorebo
         /** Map of line NumberFormat properties */
         @NotNull
         public final Map<ScoreboardLine, Property> numberFormatProperties = new IdentityHashMap<>();
+
+        /** Map of line prefix and suffix last sent to the player */
+        @NotNull
+        public final Map<ScoreboardLine, String[]> sentLineTexts = new IdentityHashMap<>();
+
+        /** Map of line scores last sent to the player */
+        @NotNull
+        public final Map<ScoreboardLine, Integer> sentScores = new IdentityHashMap<>();
     }
 }
\ No newline at end of file
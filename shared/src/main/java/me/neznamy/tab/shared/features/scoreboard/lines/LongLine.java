@@ -5,6 +5,7 @@ import me.neznamy.tab.shared.Limitations;
 import me.neznamy.tab.shared.Property;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.features.scoreboard.ScoreboardImpl;
+import me.neznamy.tab.shared.util.cache.Cache;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -16,6 +17,14 @@ import org.jetbrains.annotations.NotNull;
  */
 public class LongLine extends ScoreboardLine {
 
+    /** Prefix, name and suffix for 1.8 - 1.12 players by text */
+    private final Cache<String, String[]> splitCache = new Cache<>("Scoreboard long line splits 1.8", 1000,
+            text -> splitLegacy(text, Limitations.SCOREBOARD_SCORE_LENGTH_1_8));
+
+    /** Prefix, name and suffix for 1.7- players by text */
+    private final Cache<String, String[]> splitCache17 = new Cache<>("Scoreboard long line splits 1.7", 1000,
+            text -> splitLegacy(text, Limitations.SCOREBOARD_SCORE_LENGTH_1_7));
+
     /**
      * Constructs new instance with given parameters
      *
@@ -33,19 +42,22 @@ public class LongLine extends ScoreboardLine {
     @Override
     public void refresh(@NotNull TabPlayer refreshed, boolean force) {
         if (refreshed.scoreboardData.activeScoreboard != parent) return; //player has different scoreboard displayed
+        if (!rateLimiter.tryUpdate(refreshed, force)) return; //updated recently, latest value will be sent later
         Property lineProperty = refreshed.scoreboardData.lineProperties.get(this);
         if (lineProperty.update()) {
             if (refreshed.getVersion().getMinorVersion() >= 13) {
                 updateTeam(refreshed, lineProperty.get(), "");
             } else {
-                removeLine(refreshed, refreshed.scoreboardData.lineNameProperties.get(this).get());
-                String[] values = splitText(
-                        getPlayerName(lineNumber),
-                        parent.getManager().getCache().get(lineProperty.get()).toLegacyText(),
-                        refreshed.getVersion().getMinorVersion() >= 8 ? Limitations.SCOREBOARD_SCORE_LENGTH_1_8 : Limitations.SCOREBOARD_SCORE_LENGTH_1_7
-                );
+                String[] values = getSplitCache(refreshed).get(lineProperty.get());
+                Property nameProperty = refreshed.scoreboardData.lineNameProperties.get(this);
+                if (nameProperty.getCurrentRawValue().equals(values[1])) {
+                    // Name did not change, prefix/suffix update is enough
+                    updateTeam(refreshed, values[0], values[2]);
+                    return;
+                }
+                removeLine(refreshed, nameProperty.get());
                 addLine(refreshed, values[1], values[0], values[2]);
-                refreshed.scoreboardData.lineNameProperties.get(this).changeRawValue(values[1]);
+                nameProperty.changeRawValue(values[1]);
             }
         }
     }
@@ -59,16 +71,38 @@ public class LongLine extends ScoreboardLine {
             addLine(p, playerName, value, "");
             p.scoreboardData.lineNameProperties.put(this, new Property(this, p, playerName));
         } else {
-            String[] values = splitText(
-                    playerName,
-                    parent.getManager().getCache().get(value).toLegacyText(),
-                    p.getVersion().getMinorVersion() >= 8 ? Limitations.SCOREBOARD_SCORE_LENGTH_1_8 : Limitations.SCOREBOARD_SCORE_LENGTH_1_7
-            );
+            String[] values = getSplitCache(p).get(value);
             addLine(p, values[1], values[0], values[2]);
             p.scoreboardData.lineNameProperties.put(this, new Property(this, p, values[1]));
         }
     }
 
+    /**
+     * Returns cache of split texts for version of specified player.
+     *
+     * @param   p
+     *          player to get cache for
+     * @return  cache of split texts for player's version
+     */
+    @NotNull
+    private Cache<String, String[]> getSplitCache(@NonNull TabPlayer p) {
+        return p.getVersion().getMinorVersion() >= 8 ? splitCache : splitCache17;
+    }
+
+    /**
+     * Converts text to legacy colors and splits it into prefix, name and suffix.
+     *
+     * @param   text
+     *          text to split
+     * @param   maxNameLength
+     *          maximum length of name field
+     * @return  Split text as an array of 3 elements
+     */
+    @NotNull
+    private String[] splitLegacy(@NonNull String text, int maxNameLength) {
+        return splitText(playerName, parent.getManager().getCache().get(text).toLegacyText(), maxNameLength);
+    }
+
     @Override
     public void unregister(@NonNull TabPlayer p) {
         if (p.scoreboardData.activeScoreboard == parent) {
@@ -80,7 +114,7 @@ public class LongLine extends ScoreboardLine {
     public void setText(@NonNull String text) {
         ensureActive();
         initializeText(text);
-        for (TabPlayer p : parent.getPlayers()) {
+        for (TabPlayer p : parent.getPlayers().toArray(new TabPlayer[0])) {
             p.scoreboardData.lineProperties.get(this).changeRawValue(text);
             refresh(p, false);
         }
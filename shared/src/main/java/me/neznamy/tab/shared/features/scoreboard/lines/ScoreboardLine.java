@@ -1,5 +1,6 @@
 package me.neznamy.tab.shared.features.scoreboard.lines;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import me.neznamy.tab.shared.Limitations;
@@ -11,6 +12,7 @@ import me.neznamy.tab.shared.cpu.ThreadExecutor;
 import me.neznamy.tab.shared.features.scoreboard.ScoreRefresher;
 import me.neznamy.tab.shared.features.types.CustomThreaded;
 import me.neznamy.tab.shared.features.types.RefreshableFeature;
+import me.neznamy.tab.shared.features.types.UpdateRateLimiter;
 import me.neznamy.tab.shared.platform.Scoreboard;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.features.scoreboard.ScoreboardImpl;
@@ -45,7 +47,11 @@ public abstract class ScoreboardLine extends RefreshableFeature implements Line,
 
     private final ScoreRefresher scoreRefresher;
 
-    private final Set<TabPlayer> shownPlayers = Collections.newSetFromMap(new WeakHashMap<>());
+    private final Set<TabPlayer> shownPlayers = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    //limiter of line updates sent to each player
+    @Getter(AccessLevel.NONE)
+    protected final UpdateRateLimiter rateLimiter;
     
     /**
      * Constructs new instance with given parameters
@@ -62,6 +68,7 @@ public abstract class ScoreboardLine extends RefreshableFeature implements Line,
         teamName = "TAB-Sidebar-" + lineNumber;
         playerName = getPlayerName(lineNumber);
         scoreRefresher = new ScoreRefresher(this, numberFormat);
+        rateLimiter = new UpdateRateLimiter(this, parent.getManager().getConfiguration().minUpdateInterval);
         TAB.getInstance().getFeatureManager().registerFeature(TabConstants.Feature.scoreboardScore(parent.getName(), lineNumber), scoreRefresher);
     }
     
@@ -132,10 +139,13 @@ public abstract class ScoreboardLine extends RefreshableFeature implements Line,
      *          suffix
      */
     protected void addLine(@NonNull TabPlayer p, @NonNull String fakePlayer, @NonNull String prefix, @NonNull String suffix) {
+        int number = getNumber(p);
+        p.scoreboardData.sentScores.put(this, number);
+        p.scoreboardData.sentLineTexts.put(this, new String[] {prefix, suffix});
         p.getScoreboard().setScore(
                 ScoreboardManagerImpl.OBJECTIVE_NAME,
                 fakePlayer,
-                getNumber(p),
+                number,
                 null, // Makes no sense for TAB
                 scoreRefresher.getNumberFormat(p)
         );
@@ -163,9 +173,31 @@ public abstract class ScoreboardLine extends RefreshableFeature implements Line,
     protected void removeLine(@NonNull TabPlayer p, @NonNull String fakePlayer) {
         p.getScoreboard().removeScore(ScoreboardManagerImpl.OBJECTIVE_NAME, fakePlayer);
         p.getScoreboard().unregisterTeam(teamName);
+        p.scoreboardData.sentScores.remove(this);
+        p.scoreboardData.sentLineTexts.remove(this);
         shownPlayers.remove(p);
     }
 
+    /**
+     * Sends score of this line to player if it differs from the last sent score.
+     *
+     * @param   p
+     *          player to send score to
+     * @param   score
+     *          score to display
+     */
+    public void updateScore(@NonNull TabPlayer p, int score) {
+        Integer sent = p.scoreboardData.sentScores.put(this, score);
+        if (sent != null && sent == score) return;
+        p.getScoreboard().setScore(
+                ScoreboardManagerImpl.OBJECTIVE_NAME,
+                getPlayerName(p),
+                score,
+                null, // Makes no sense for TAB
+                scoreRefresher.getNumberFormat(p)
+        );
+    }
+
     /**
      * Returns number that should be displayed as score for specified player
      *
@@ -239,7 +271,8 @@ public abstract class ScoreboardLine extends RefreshableFeature implements Line,
     }
 
     /**
-     * Updates prefix/suffix of the fake player.
+     * Updates prefix/suffix of the fake player. If the player already has
+     * these values, no update is sent.
      *
      * @param   player
      *          Player to send the update to
@@ -249,6 +282,9 @@ public abstract class ScoreboardLine extends RefreshableFeature implements Line,
      *          Suffix to use
      */
     protected void updateTeam(@NotNull TabPlayer player, @NotNull String prefix, @NotNull String suffix) {
+        String[] sent = player.scoreboardData.sentLineTexts.get(this);
+        if (sent != null && sent[0].equals(prefix) && sent[1].equals(suffix)) return;
+        player.scoreboardData.sentLineTexts.put(this, new String[] {prefix, suffix});
         player.getScoreboard().updateTeam(
                 teamName,
                 parent.getManager().getCache().get(prefix),
@@ -263,6 +299,12 @@ public abstract class ScoreboardLine extends RefreshableFeature implements Line,
         return parent.getCustomThread();
     }
 
+    @Override
+    @NotNull
+    public ThreadExecutor getCustomThread(@NotNull TabPlayer player) {
+        return parent.getCustomThread(player);
+    }
+
     @NotNull
     @Override
     public String getFeatureName() {
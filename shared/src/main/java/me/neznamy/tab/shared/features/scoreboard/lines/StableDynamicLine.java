@@ -6,6 +6,7 @@ import me.neznamy.tab.shared.Property;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.features.scoreboard.ScoreboardImpl;
 import me.neznamy.tab.shared.platform.TabPlayer;
+import me.neznamy.tab.shared.util.cache.Cache;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -18,6 +19,9 @@ public class StableDynamicLine extends ScoreboardLine {
 
     private final String[] EMPTY_ARRAY = new String[0];
 
+    /** Prefix and suffix for 1.12- players by text, text is split once instead of on every update */
+    private final Cache<String, String[]> legacySplitCache = new Cache<>("Scoreboard legacy line splits", 1000, this::splitLegacy);
+
     /**
      * Constructs new instance with given parameters
      *
@@ -35,6 +39,7 @@ public class StableDynamicLine extends ScoreboardLine {
     @Override
     public void refresh(@NotNull TabPlayer refreshed, boolean force) {
         if (refreshed.scoreboardData.activeScoreboard != parent) return; //player has different scoreboard displayed
+        if (!rateLimiter.tryUpdate(refreshed, force)) return; //updated recently, latest value will be sent later
         String[] prefixSuffix = replaceText(refreshed, force, false);
         if (prefixSuffix.length == 0) return;
         updateTeam(refreshed, prefixSuffix[0], prefixSuffix[1]);
@@ -74,11 +79,15 @@ public class StableDynamicLine extends ScoreboardLine {
         boolean emptyBefore = scoreProperty.get().isEmpty();
         if (!scoreProperty.update() && !force) return EMPTY_ARRAY;
         String replaced = scoreProperty.get();
-        if (!p.getVersion().supportsRGB()) {
-            replaced = parent.getManager().getCache().get(replaced).toLegacyText(); //converting RGB to legacy here to avoid splitting in the middle of RGB code
+        String[] split;
+        if (p.getVersion().getMinorVersion() < 13) {
+            split = legacySplitCache.get(replaced);
+        } else if (!p.getVersion().supportsRGB()) {
+            split = new String[] {parent.getManager().getCache().get(replaced).toLegacyText(), ""};
+        } else {
+            split = new String[] {replaced, ""};
         }
-        String[] split = split(p, replaced);
-        if (!replaced.isEmpty()) {
+        if (!split[0].isEmpty()) {
             if (emptyBefore) {
                 //was "", now it is not
                 addLine(p, getPlayerName(), split[0], split[1]);
@@ -98,16 +107,17 @@ public class StableDynamicLine extends ScoreboardLine {
     }
 
     /**
-     * Splits text into 2 values (prefix/suffix) based on client version and text itself
+     * Converts text to legacy colors and splits it into 2 values (prefix/suffix)
+     * respecting 1.12- prefix/suffix length limit.
      *
-     * @param   p
-     *          player to split text for
      * @param   text
      *          text to split
      * @return  array of 2 elements for prefix and suffix
      */
-    private String[] split(@NonNull TabPlayer p, @NonNull String text) {
-        if (p.getVersion().getMinorVersion() >= 13) return new String[] {text, ""};
+    @NotNull
+    private String[] splitLegacy(@NonNull String text) {
+        //converting RGB to legacy here to avoid splitting in the middle of RGB code
+        text = parent.getManager().getCache().get(text).toLegacyText();
         int charLimit = Limitations.TEAM_PREFIX_SUFFIX_PRE_1_13;
         if (text.length() > charLimit) {
             StringBuilder prefix = new StringBuilder(text);
@@ -130,7 +140,7 @@ public class StableDynamicLine extends ScoreboardLine {
     public void setText(@NonNull String text) {
         ensureActive();
         initializeText(text);
-        for (TabPlayer p : parent.getPlayers()) {
+        for (TabPlayer p : parent.getPlayers().toArray(new TabPlayer[0])) {
             p.scoreboardData.lineProperties.get(this).changeRawValue(text);
             refresh(p, true);
         }
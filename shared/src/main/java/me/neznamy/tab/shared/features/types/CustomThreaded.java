@@ -1,6 +1,7 @@
 package me.neznamy.tab.shared.features.types;
 
 import me.neznamy.tab.shared.cpu.ThreadExecutor;
+import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -15,4 +16,19 @@ public interface CustomThreaded {
      */
     @NotNull
     ThreadExecutor getCustomThread();
+
+    /**
+     * Returns thread to execute tasks affecting only specified player in. Features
+     * which do not touch data of other players in such tasks may override this to
+     * process different players in parallel. Tasks submitted to {@link #getCustomThread()}
+     * then act as a barrier and never run concurrently with tasks of any player.
+     *
+     * @param   player
+     *          Player affected by the task
+     * @return  thread to execute the task in
+     */
+    @NotNull
+    default ThreadExecutor getCustomThread(@NotNull TabPlayer player) {
+        return getCustomThread();
+    }
 }
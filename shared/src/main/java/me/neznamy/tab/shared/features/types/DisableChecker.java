@@ -67,7 +67,7 @@ public class DisableChecker extends RefreshableFeature {
             action.accept(refreshed, disabledNow);
         };
         if (feature instanceof CustomThreaded) {
-            ((CustomThreaded) feature).getCustomThread().execute(new TimedCaughtTask(TAB.getInstance().getCpu(), r,
+            ((CustomThreaded) feature).getCustomThread(refreshed).execute(new TimedCaughtTask(TAB.getInstance().getCpu(), r,
                     feature.getFeatureName(), TabConstants.CpuUsageCategory.DISABLE_CONDITION_CHANGE));
         } else {
             r.run();
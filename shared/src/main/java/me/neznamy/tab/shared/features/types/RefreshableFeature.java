@@ -29,6 +29,22 @@ public abstract class RefreshableFeature extends TabFeature {
      */
     public abstract void refresh(@NotNull TabPlayer refreshed, boolean force);
 
+    /**
+     * Called when placeholders used by this feature changed value for multiple players
+     * in the same refresh cycle. Features able to process all players together can
+     * override this method, by default players are refreshed one by one.
+     *
+     * @param   players
+     *          Players which a placeholder changed value for
+     * @param   force
+     *          Whether refresh should be forced
+     */
+    public void refresh(@NotNull Collection<TabPlayer> players, boolean force) {
+        for (TabPlayer player : players) {
+            refresh(player, force);
+        }
+    }
+
     /**
      * Registers this feature as one using specified placeholders
      *
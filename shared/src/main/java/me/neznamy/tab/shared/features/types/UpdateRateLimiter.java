@@ -0,0 +1,122 @@
+package me.neznamy.tab.shared.features.types;
+
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.cpu.CpuManager;
+import me.neznamy.tab.shared.cpu.ThreadExecutor;
+import me.neznamy.tab.shared.cpu.TimedCaughtTask;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how often a feature can send updates to a single viewer. Refreshes requested
+ * before the next allowed time are coalesced into one refresh, which runs once the time
+ * comes and sends the latest value. The interval is stretched while the main processing
+ * thread is falling behind, bounding packet rates regardless of configured refresh
+ * intervals of placeholders and animations.
+ * <p>
+ * Refresh methods should call {@link #tryUpdate(TabPlayer, boolean)} before updating
+ * their properties, so the delayed refresh detects the change.
+ */
+public class UpdateRateLimiter {
+
+    /** Amount of tasks in processing thread queue per which the interval is multiplied */
+    private static final int QUEUE_SIZE_STEP = 100;
+
+    /** Maximum multiplier of configured interval when processing thread falls behind */
+    private static final int MAX_MULTIPLIER = 8;
+
+    /** Feature to refresh once the next update is allowed */
+    @NotNull
+    private final RefreshableFeature feature;
+
+    /** Minimum time between two updates to the same viewer in milliseconds, 0 or less to disable */
+    private final int intervalMillis;
+
+    /** Update state by viewer */
+    private final Map<TabPlayer, ViewerState> states = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   feature
+     *          Feature to refresh once the next update is allowed
+     * @param   intervalMillis
+     *          Minimum time between two updates to the same viewer in milliseconds, 0 or less to disable
+     */
+    public UpdateRateLimiter(@NotNull RefreshableFeature feature, int intervalMillis) {
+        this.feature = feature;
+        this.intervalMillis = intervalMillis;
+    }
+
+    /**
+     * Returns {@code true} if an update can be sent to the viewer now. If not, refresh
+     * of the feature for the viewer is scheduled at the next allowed time, unless it was
+     * already scheduled, in which case both requests are merged.
+     *
+     * @param   viewer
+     *          Player to send the update to
+     * @param   force
+     *          Whether the refresh is forced or not
+     * @return  {@code true} if update can be sent now, {@code false} if it was postponed
+     */
+    public boolean tryUpdate(@NotNull TabPlayer viewer, boolean force) {
+        if (intervalMillis <= 0) return true;
+        ViewerState state = states.computeIfAbsent(viewer, p -> new ViewerState());
+        long now = System.nanoTime();
+        if (state.pending) {
+            state.pendingForce |= force;
+            return false;
+        }
+        if (now - state.nextAllowed >= 0) {
+            state.nextAllowed = now + TimeUnit.MILLISECONDS.toNanos(getEffectiveInterval());
+            return true;
+        }
+        state.pending = true;
+        state.pendingForce = force;
+        int delay = (int) TimeUnit.NANOSECONDS.toMillis(state.nextAllowed - now) + 1;
+        CpuManager cpu = TAB.getInstance().getCpu();
+        getThread(viewer).executeLater(new TimedCaughtTask(cpu, () -> {
+            state.pending = false;
+            if (viewer.isOnline()) feature.refresh(viewer, state.pendingForce);
+        }, feature.getFeatureName(), feature.getRefreshDisplayName()), delay);
+        return false;
+    }
+
+    /**
+     * Returns configured interval multiplied based on amount of tasks waiting
+     * in the main processing thread.
+     *
+     * @return  Interval to use for the next update in milliseconds
+     */
+    private int getEffectiveInterval() {
+        int queueSize = TAB.getInstance().getCpu().getProcessingThread().getQueueSize();
+        return intervalMillis * Math.min(MAX_MULTIPLIER, 1 + queueSize / QUEUE_SIZE_STEP);
+    }
+
+    @NotNull
+    private ThreadExecutor getThread(@NotNull TabPlayer viewer) {
+        if (feature instanceof CustomThreaded) return ((CustomThreaded) feature).getCustomThread(viewer);
+        return TAB.getInstance().getCpu().getProcessingThread();
+    }
+
+    /**
+     * Update state of a single viewer. Only accessed from the thread processing
+     * the feature for the viewer.
+     */
+    private static class ViewerState {
+
+        /** Time in nanoseconds from which the next update can be sent */
+        private long nextAllowed = System.nanoTime();
+
+        /** Whether a refresh is scheduled or not */
+        private boolean pending;
+
+        /** Whether the scheduled refresh should be forced or not */
+        private boolean pendingForce;
+    }
+}
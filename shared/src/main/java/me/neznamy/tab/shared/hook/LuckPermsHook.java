@@ -1,5 +1,6 @@
 package me.neznamy.tab.shared.hook;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import me.neznamy.tab.shared.TAB;
@@ -8,17 +9,28 @@ import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.util.ReflectionUtils;
 import net.luckperms.api.LuckPermsProvider;
 import net.luckperms.api.cacheddata.CachedMetaData;
+import net.luckperms.api.event.EventBus;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.node.NodeMutateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+import net.luckperms.api.model.group.Group;
 import net.luckperms.api.model.user.User;
 import net.luckperms.api.query.QueryOptions;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
  * Class that hooks into LuckPerms if installed.
  */
 @Getter
-public class LuckPermsHook {
+public class LuckPermsHook implements PermissionChangeSource {
 
     /** Instance of the class */
     @Getter private static final LuckPermsHook instance = new LuckPermsHook();
@@ -36,6 +48,67 @@ public class LuckPermsHook {
         return p.luckPermsUser.getPrimaryGroup();
     };
 
+    /** Listeners to call on permission data change */
+    @Getter(AccessLevel.NONE)
+    private final List<Consumer<UUID>> listeners = new CopyOnWriteArrayList<>();
+
+    /** Active subscriptions to LuckPerms events */
+    @Getter(AccessLevel.NONE)
+    private final List<EventSubscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+
+    @Override
+    public synchronized void subscribe(@NotNull Consumer<UUID> listener) {
+        listeners.add(listener);
+        if (!subscriptions.isEmpty()) return;
+        EventBus bus = LuckPermsProvider.get().getEventBus();
+        subscriptions.add(bus.subscribe(UserDataRecalculateEvent.class, e -> notifyListeners(e.getUser().getUniqueId())));
+        subscriptions.add(bus.subscribe(NodeMutateEvent.class, e -> {
+            if (e.isUser()) {
+                notifyListeners(((User) e.getTarget()).getUniqueId());
+            } else if (e.isGroup()) {
+                notifyGroupMembers(((Group) e.getTarget()).getName());
+            }
+        }));
+    }
+
+    @Override
+    public synchronized void unsubscribe() {
+        for (EventSubscription<?> subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+        listeners.clear();
+    }
+
+    /**
+     * Forwards permission data change of a user to all listeners.
+     *
+     * @param   user
+     *          UUID of user whose data changed
+     */
+    private void notifyListeners(@NotNull UUID user) {
+        for (Consumer<UUID> listener : listeners) {
+            listener.accept(user);
+        }
+    }
+
+    /**
+     * Forwards permission data change of a group to all listeners for every online
+     * player inheriting the group. Players whose user is not loaded are notified
+     * as well, since their groups cannot be checked.
+     *
+     * @param   group
+     *          Name of group whose data changed
+     */
+    private void notifyGroupMembers(@NotNull String group) {
+        for (TabPlayer player : TAB.getInstance().getOnlinePlayers()) {
+            User user = LuckPermsProvider.get().getUserManager().getUser(player.getUniqueId());
+            if (user == null || user.getInheritedGroups(user.getQueryOptions()).stream().anyMatch(g -> g.getName().equals(group))) {
+                notifyListeners(player.getUniqueId());
+            }
+        }
+    }
+
     /**
      * Returns player's prefix configured in LuckPerms
      *
@@ -0,0 +1,29 @@
+package me.neznamy.tab.shared.hook;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Source of permission data change notifications. Allows permission groups
+ * and permission plugin placeholders to be refreshed as soon as they change
+ * instead of waiting for the next periodic check.
+ */
+public interface PermissionChangeSource {
+
+    /**
+     * Registers a listener which will be called with UUID of every user whose
+     * permission data (groups, permissions or meta) has changed. Listener
+     * may be called from any thread.
+     *
+     * @param   listener
+     *          Listener to call on permission data change
+     */
+    void subscribe(@NotNull Consumer<UUID> listener);
+
+    /**
+     * Unregisters all listeners registered using {@link #subscribe(Consumer)}.
+     */
+    void unsubscribe();
+}
@@ -38,6 +38,12 @@ public class Animation {
      * such as this being a slow animation with a fast nested animation.
      */
     @Getter private final int refresh;
+
+    /**
+     * Flag tracking whether frames contain any placeholders. If they do not,
+     * the animation displays the same frame to all players at the same time.
+     */
+    @Getter private final boolean containsPlaceholders;
     
     /**
      * Constructs new instance with given arguments which are fixed if necessary, such as when
@@ -75,10 +81,13 @@ public class Animation {
             }
         }
         this.refresh = refresh;
+        containsPlaceholders = !nestedPlaceholders.isEmpty();
     }
 
     /**
-     * Returns current up-to-date message depending on current system time
+     * Returns current up-to-date message depending on shared placeholder refresh
+     * clock, keeping all animations with the same interval synchronized. Frames are
+     * colored when loading, returning the same String instance for each frame.
      *
      * @return  current message
      */
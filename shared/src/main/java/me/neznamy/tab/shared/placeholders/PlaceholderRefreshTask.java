@@ -2,11 +2,12 @@ package me.neznamy.tab.shared.placeholders;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import me.neznamy.tab.api.placeholder.Placeholder;
 import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.cpu.LatencyHistogram;
 import me.neznamy.tab.shared.placeholders.types.PlayerPlaceholderImpl;
 import me.neznamy.tab.shared.placeholders.types.RelationalPlaceholderImpl;
 import me.neznamy.tab.shared.placeholders.types.ServerPlaceholderImpl;
+import me.neznamy.tab.shared.placeholders.types.TabPlaceholder;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.Nullable;
 
@@ -23,7 +24,7 @@ import java.util.Map;
 public class PlaceholderRefreshTask implements Runnable {
 
     /** Placeholders that should be refreshed in this loop */
-    private final Collection<Placeholder> placeholdersToRefresh;
+    private final Collection<TabPlaceholder> placeholdersToRefresh;
 
     /** Map of server placeholder results */
     private final Map<ServerPlaceholderImpl, String> serverPlaceholderResults = new HashMap<>();
@@ -42,13 +43,16 @@ public class PlaceholderRefreshTask implements Runnable {
     public void run() {
         boolean trackUsage = TAB.getInstance().getCpu().isTrackUsage();
         TabPlayer[] players = TAB.getInstance().getOnlinePlayers();
-        for (Placeholder placeholder : placeholdersToRefresh) {
+        for (TabPlaceholder placeholder : placeholdersToRefresh) {
+            LatencyHistogram latency = placeholder.getLatency();
             long nanoTime = 0;
             if (placeholder instanceof ServerPlaceholderImpl) {
                 ServerPlaceholderImpl serverPlaceholder = (ServerPlaceholderImpl) placeholder;
                 long startTime = System.nanoTime();
                 String result = serverPlaceholder.request();
-                nanoTime += System.nanoTime()-startTime;
+                long requestTime = System.nanoTime()-startTime;
+                latency.record(requestTime);
+                nanoTime += requestTime;
                 serverPlaceholderResults.put(serverPlaceholder, result);
             }
             if (placeholder instanceof PlayerPlaceholderImpl) {
@@ -57,7 +61,9 @@ public class PlaceholderRefreshTask implements Runnable {
                 for (TabPlayer player : players) {
                     long startTime = System.nanoTime();
                     String result = playerPlaceholder.request(player);
-                    nanoTime += System.nanoTime()-startTime;
+                    long requestTime = System.nanoTime()-startTime;
+                    latency.record(requestTime);
+                    nanoTime += requestTime;
                     playerResults.put(player, result);
                 }
                 playerPlaceholderResults.put(playerPlaceholder, playerResults);
@@ -70,7 +76,9 @@ public class PlaceholderRefreshTask implements Runnable {
                     for (TabPlayer target : players) {
                         long startTime = System.nanoTime();
                         String result = relationalPlaceholder.request(viewer, target);
-                        nanoTime += System.nanoTime()-startTime;
+                        long requestTime = System.nanoTime()-startTime;
+                        latency.record(requestTime);
+                        nanoTime += requestTime;
                         targetMap.put(target, result);
                     }
                     viewerMap.put(viewer, targetMap);
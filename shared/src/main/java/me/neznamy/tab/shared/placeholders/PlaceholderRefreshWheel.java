@@ -0,0 +1,117 @@
+package me.neznamy.tab.shared.placeholders;
+
+import lombok.AllArgsConstructor;
+import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.placeholders.types.TabPlaceholder;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hashed timer wheel scheduling placeholder refreshing. Every placeholder is stored
+ * in the slot of its next refresh, so each tick only visits placeholders which are
+ * due, instead of checking refresh intervals of all placeholders. Placeholders with
+ * refresh interval longer than one wheel rotation are visited once per rotation.
+ * <p>
+ * Placeholders are refreshed when the tick is a multiple of their refresh interval,
+ * keeping placeholders with the same interval refreshed together.
+ * <p>
+ * This class is not thread-safe, it is only accessed from the main processing thread.
+ */
+public class PlaceholderRefreshWheel {
+
+    /** Amount of slots, covering 51.2 seconds with 50ms ticks */
+    private static final int SLOTS = 1024;
+
+    /** Placeholders by slot of their next refresh */
+    @SuppressWarnings("unchecked")
+    private final List<Entry>[] slots = new List[SLOTS];
+
+    /** Amount of ticks since the wheel was created */
+    private long tick;
+
+    /**
+     * Constructs new empty instance.
+     */
+    public PlaceholderRefreshWheel() {
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Removes all scheduled placeholders and schedules given placeholders
+     * using their current refresh interval.
+     *
+     * @param   placeholders
+     *          Placeholders to schedule
+     */
+    public void reschedule(@NotNull TabPlaceholder[] placeholders) {
+        for (List<Entry> slot : slots) {
+            slot.clear();
+        }
+        for (TabPlaceholder placeholder : placeholders) {
+            int interval = getIntervalTicks(placeholder);
+            if (interval == -1) continue;
+            schedule(new Entry(placeholder, (tick / interval + 1) * interval));
+        }
+    }
+
+    /**
+     * Advances the wheel by one tick and returns placeholders which should be refreshed.
+     *
+     * @param   due
+     *          List to add placeholders which should be refreshed into
+     */
+    public void advance(@NotNull List<TabPlaceholder> due) {
+        tick++;
+        int index = slotOf(tick);
+        List<Entry> slot = slots[index];
+        int size = slot.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Entry entry = slot.get(i);
+            if (entry.due != tick) {
+                slot.set(kept++, entry);
+                continue;
+            }
+            due.add(entry.placeholder);
+            int interval = getIntervalTicks(entry.placeholder);
+            if (interval == -1) continue;
+            entry.due = (tick / interval + 1) * interval;
+            if (slotOf(entry.due) == index) {
+                slot.set(kept++, entry);
+            } else {
+                schedule(entry);
+            }
+        }
+        slot.subList(kept, size).clear();
+    }
+
+    private void schedule(@NotNull Entry entry) {
+        slots[slotOf(entry.due)].add(entry);
+    }
+
+    private int slotOf(long tick) {
+        return (int) (tick & (SLOTS - 1));
+    }
+
+    private int getIntervalTicks(@NotNull TabPlaceholder placeholder) {
+        int refresh = placeholder.getEffectiveRefresh();
+        return refresh == -1 ? -1 : refresh / TabConstants.Placeholder.MINIMUM_REFRESH_INTERVAL;
+    }
+
+    /**
+     * Scheduled placeholder with tick of its next refresh.
+     */
+    @AllArgsConstructor
+    private static class Entry {
+
+        /** Scheduled placeholder */
+        @NotNull private final TabPlaceholder placeholder;
+
+        /** Tick of next refresh */
+        private long due;
+    }
+}
@@ -4,9 +4,11 @@ import java.util.*;
 import java.util.Map.Entry;
 
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.features.PlaceholderManagerImpl;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Placeholder replacement pattern class for placeholder output replacements
@@ -24,11 +26,17 @@ public class PlaceholderReplacementPattern {
     private final Map<String, String> replacements = new HashMap<>();
 
     /**
-     * Map of number intervals where key is a 2-dimensional array
-     * with first value being minimum and second value maximum and value
-     * being output to replace to.
+     * Minimums of configured number intervals, sorted and not overlapping.
+     * Both bounds are inclusive. If configured intervals overlap, the one
+     * defined first in config takes priority.
      */
-    private final Map<float[], String> numberIntervals = new HashMap<>();
+    private final float[] intervalMinimums;
+
+    /** Maximums of configured number intervals, sorted and not overlapping */
+    private final float[] intervalMaximums;
+
+    /** Outputs of configured number intervals */
+    private final String[] intervalValues;
 
     /** Set of all used placeholders in replacement values */
     @Getter private final Set<String> nestedPlaceholders = new HashSet<>();
@@ -36,6 +44,12 @@ public class PlaceholderReplacementPattern {
     /** Flag tracking if this replacement map is empty */
     private final boolean empty;
 
+    /** Replacement used when nothing else matches, {@code null} if not configured */
+    @Nullable private final String elseValue;
+
+    /** Last input and its replacement, placeholders often return the same output many times in a row */
+    @Nullable private volatile LastReplacement last;
+
     /**
      * Constructs new instance from given replacement map from config
      *
@@ -46,6 +60,7 @@ public class PlaceholderReplacementPattern {
      */
     private PlaceholderReplacementPattern(@NotNull String identifier, @NotNull Map<Object, Object> map) {
         empty = map.isEmpty();
+        List<Interval> intervals = new ArrayList<>();
         for (Entry<Object, Object> entry : map.entrySet()) {
             String key = String.valueOf(entry.getKey());
             String value = String.valueOf(entry.getValue()).replace(identifier, "%value%");
@@ -62,13 +77,55 @@ public class PlaceholderReplacementPattern {
                 replacements.put("No", value);
             } else if (key.contains("-")) {
                 try {
-                    numberIntervals.put(new float[]{Float.parseFloat(key.split("-")[0]), Float.parseFloat(key.split("-")[1])}, value);
+                    intervals.add(new Interval(Float.parseFloat(key.split("-")[0]), Float.parseFloat(key.split("-")[1]), value));
                 } catch (NumberFormatException ignored) {}
                 try {
-                    numberIntervals.put(new float[]{Float.parseFloat(key.split("~")[0]), Float.parseFloat(key.split("~")[1])}, value);
+                    intervals.add(new Interval(Float.parseFloat(key.split("~")[0]), Float.parseFloat(key.split("~")[1]), value));
                 } catch (NumberFormatException ignored) {}
             }
         }
+        List<Interval> disjoint = toDisjoint(intervals);
+        intervalMinimums = new float[disjoint.size()];
+        intervalMaximums = new float[disjoint.size()];
+        intervalValues = new String[disjoint.size()];
+        for (int i = 0; i < disjoint.size(); i++) {
+            intervalMinimums[i] = disjoint.get(i).min;
+            intervalMaximums[i] = disjoint.get(i).max;
+            intervalValues[i] = disjoint.get(i).value;
+        }
+        elseValue = replacements.get("else");
+    }
+
+    /**
+     * Converts intervals into sorted non-overlapping intervals. Parts of intervals
+     * covered by an interval defined earlier are removed.
+     *
+     * @param   intervals
+     *          Intervals in the order they were defined in
+     * @return  Sorted non-overlapping intervals
+     */
+    @NotNull
+    private static List<Interval> toDisjoint(@NotNull List<Interval> intervals) {
+        List<Interval> result = new ArrayList<>();
+        for (Interval interval : intervals) {
+            if (!(interval.min <= interval.max)) continue; // Empty or NaN
+            List<Interval> pieces = Collections.singletonList(interval);
+            for (Interval existing : result) {
+                List<Interval> remaining = new ArrayList<>();
+                for (Interval piece : pieces) {
+                    if (piece.max < existing.min || piece.min > existing.max) {
+                        remaining.add(piece);
+                        continue;
+                    }
+                    if (piece.min < existing.min) remaining.add(new Interval(piece.min, Math.nextDown(existing.min), piece.value));
+                    if (piece.max > existing.max) remaining.add(new Interval(Math.nextUp(existing.max), piece.max, piece.value));
+                }
+                pieces = remaining;
+            }
+            result.addAll(pieces);
+        }
+        result.sort(Comparator.comparingDouble(i -> i.min));
+        return result;
     }
 
     /**
@@ -82,10 +139,13 @@ public class PlaceholderReplacementPattern {
     @NotNull
     public String findReplacement(@NotNull String output) {
         if (empty) return output;
+        LastReplacement last = this.last;
+        if (last != null && last.output.equals(output)) return last.replacement;
         String replacement = findReplacement0(output);
         if (replacement.contains("%value%")) {
             replacement = replacement.replace("%value%", output);
         }
+        this.last = new LastReplacement(output, replacement);
         return replacement;
     }
 
@@ -105,26 +165,106 @@ public class PlaceholderReplacementPattern {
         }
         
         //number interval
-        if (!numberIntervals.isEmpty()) {  //not parsing number if no intervals are configured
-            try {
-                //supporting placeholders with fancy output using "," every 3 digits
-                String cleanValue = output.contains(",") ? output.replace(",", "") : output;
-                float value = Float.parseFloat(cleanValue);
-                for (Entry<float[], String> entry : numberIntervals.entrySet()) {
-                    if (entry.getKey()[0] <= value && value <= entry.getKey()[1]) return entry.getValue();
-                }
-            } catch (NumberFormatException e) {
-                //placeholder output is not a number
+        if (intervalValues.length > 0) {  //not parsing number if no intervals are configured
+            float value = parseNumber(output);
+            if (!Float.isNaN(value)) {
+                String interval = findInterval(value);
+                if (interval != null) return interval;
             }
         }
 
         //else
-        if (replacements.containsKey("else")) return replacements.get("else");
+        if (elseValue != null) return elseValue;
         
         //nothing was found
         return output;
     }
 
+    /**
+     * Finds interval containing given value using binary search.
+     *
+     * @param   value
+     *          Value to find interval of
+     * @return  Output of interval containing the value or {@code null} if there is none
+     */
+    @Nullable
+    private String findInterval(float value) {
+        int low = 0;
+        int high = intervalMinimums.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (value < intervalMinimums[middle]) {
+                high = middle - 1;
+            } else if (value > intervalMaximums[middle]) {
+                low = middle + 1;
+            } else {
+                return intervalValues[middle];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses placeholder output as a number. Commas are ignored to support
+     * placeholders with fancy output using "," every 3 digits. Plain decimal
+     * numbers are parsed without allocations, outputs which cannot be a number
+     * are rejected without throwing an exception.
+     *
+     * @param   output
+     *          Placeholder output to parse
+     * @return  Parsed number or {@link Float#NaN} if output is not a number
+     */
+    private static float parseNumber(@NotNull String output) {
+        int length = output.length();
+        int index = 0;
+        boolean negative = false;
+        if (index < length && (output.charAt(index) == '-' || output.charAt(index) == '+')) {
+            negative = output.charAt(index) == '-';
+            index++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        for (; index < length; index++) {
+            char c = output.charAt(index);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 18) return parseNumberSlow(output);
+                mantissa = mantissa * 10 + (c - '0');
+                if (fraction) fractionDigits++;
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else if (c != ',') {
+                return parseNumberSlow(output);
+            }
+        }
+        if (digits == 0) return Float.NaN;
+        double value = fractionDigits == 0 ? mantissa : mantissa / Math.pow(10, fractionDigits);
+        return (float) (negative ? -value : value);
+    }
+
+    /**
+     * Parses number in formats not supported by the fast parser, such as
+     * scientific notation. Outputs not starting like a number are rejected
+     * without trying to parse them.
+     *
+     * @param   output
+     *          Placeholder output to parse
+     * @return  Parsed number or {@link Float#NaN} if output is not a number
+     */
+    private static float parseNumberSlow(@NotNull String output) {
+        String trimmed = output.trim();
+        if (trimmed.isEmpty()) return Float.NaN;
+        char first = trimmed.charAt(0);
+        if ((first < '0' || first > '9') && first != '-' && first != '+' && first != '.' && first != 'I') return Float.NaN;
+        try {
+            return Float.parseFloat(output.contains(",") ? output.replace(",", "") : output);
+        } catch (NumberFormatException e) {
+            //placeholder output is not a number
+            return Float.NaN;
+        }
+    }
+
     /**
      * Returns new instance from given parameters.
      *
@@ -138,4 +278,33 @@ public class PlaceholderReplacementPattern {
         if (map.isEmpty()) return EMPTY;
         return new PlaceholderReplacementPattern(identifier, map);
     }
-}
\ No newline at end of file
+
+    /**
+     * Number interval with inclusive bounds and output to replace to.
+     */
+    @RequiredArgsConstructor
+    private static class Interval {
+
+        /** Minimum value */
+        private final float min;
+
+        /** Maximum value */
+        private final float max;
+
+        /** Output to replace to */
+        @NotNull private final String value;
+    }
+
+    /**
+     * Placeholder output and its replacement.
+     */
+    @RequiredArgsConstructor
+    private static class LastReplacement {
+
+        /** Placeholder output */
+        @NotNull private final String output;
+
+        /** Replacement of the output */
+        @NotNull private final String replacement;
+    }
+}
@@ -2,11 +2,15 @@ package me.neznamy.tab.shared.placeholders;
 
 import lombok.Getter;
 import me.neznamy.tab.api.placeholder.PlaceholderManager;
+import me.neznamy.tab.api.placeholder.PlayerPlaceholder;
+import me.neznamy.tab.shared.GroupManager;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.config.files.config.ConditionsSection.ConditionDefinition;
 import me.neznamy.tab.shared.config.files.config.PlaceholdersConfiguration;
 import me.neznamy.tab.shared.config.files.animations.AnimationConfiguration.AnimationDefinition;
+import me.neznamy.tab.shared.cpu.CpuManager;
+import me.neznamy.tab.shared.cpu.TimedCaughtTask;
 import me.neznamy.tab.shared.features.PlaceholderManagerImpl;
 import me.neznamy.tab.shared.hook.LuckPermsHook;
 import me.neznamy.tab.shared.placeholders.conditions.Condition;
@@ -117,17 +121,31 @@ public class UniversalPlaceholderRegistry {
             }
             return PerformanceUtil.toString(count);
         });
-        manager.registerPlayerPlaceholder(TabConstants.Placeholder.GAMEMODE, proxy ? -1 : 100, p -> PerformanceUtil.toString(((TabPlayer)p).getGamemode()));
+        boolean gameModeEvents = proxy || TAB.getInstance().getPlatform().hasStateChangeEvent(TabConstants.Placeholder.GAMEMODE);
+        manager.registerPlayerPlaceholder(TabConstants.Placeholder.GAMEMODE, gameModeEvents ? -1 : 100, p -> PerformanceUtil.toString(((TabPlayer)p).getGamemode()));
         if (LuckPermsHook.getInstance().isInstalled()) {
-            int refresh = TAB.getInstance().getConfiguration().getConfig().getPermissionRefreshInterval();
-            manager.registerPlayerPlaceholder(TabConstants.Placeholder.LUCKPERMS_PREFIX, refresh,
+            // Values are pushed on change, periodic refresh is only a safety net
+            int refresh = Math.max(TAB.getInstance().getConfiguration().getConfig().getPermissionRefreshInterval(), GroupManager.SAFETY_NET_REFRESH_INTERVAL);
+            PlayerPlaceholder prefix = manager.registerPlayerPlaceholder(TabConstants.Placeholder.LUCKPERMS_PREFIX, refresh,
                     p -> LuckPermsHook.getInstance().getPrefix((TabPlayer) p));
-            manager.registerPlayerPlaceholder(TabConstants.Placeholder.LUCKPERMS_SUFFIX, refresh,
+            PlayerPlaceholder suffix = manager.registerPlayerPlaceholder(TabConstants.Placeholder.LUCKPERMS_SUFFIX, refresh,
                     p -> LuckPermsHook.getInstance().getSuffix((TabPlayer) p));
+            CpuManager cpu = TAB.getInstance().getCpu();
+            LuckPermsHook.getInstance().subscribe(uuid -> cpu.getProcessingThread().execute(new TimedCaughtTask(cpu, () -> {
+                TabPlayer player = TAB.getInstance().getPlayer(uuid);
+                if (player == null) return;
+                prefix.update(player);
+                suffix.update(player);
+            }, "Permission group refreshing", "Permission change event")));
         }
         for (Entry<String, AnimationDefinition> entry : TAB.getInstance().getConfiguration().getAnimations().getAnimations().animations.entrySet()) {
             Animation a = new Animation((PlaceholderManagerImpl) manager, entry.getKey(), entry.getValue());
-            manager.registerPlayerPlaceholder(TabConstants.Placeholder.animation(a.getName()), a.getRefresh(), p -> a.getMessage());
+            if (a.isContainsPlaceholders()) {
+                manager.registerPlayerPlaceholder(TabConstants.Placeholder.animation(a.getName()), a.getRefresh(), p -> a.getMessage());
+            } else {
+                // Same frame for everyone, only evaluate it once per frame change instead of for each player
+                manager.registerServerPlaceholder(TabConstants.Placeholder.animation(a.getName()), a.getRefresh(), a::getMessage);
+            }
         }
         Condition.clearConditions();
         for (Entry<String, ConditionDefinition> condition : TAB.getInstance().getConfiguration().getConfig().getConditions().conditions.entrySet()) {
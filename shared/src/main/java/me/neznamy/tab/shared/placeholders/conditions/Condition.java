@@ -8,9 +8,10 @@ import java.util.stream.Collectors;
 
 import lombok.Getter;
 import lombok.NonNull;
-import me.neznamy.tab.api.placeholder.Placeholder;
+import lombok.RequiredArgsConstructor;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.placeholders.types.TabPlaceholder;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.features.PlaceholderManagerImpl;
 import org.jetbrains.annotations.NotNull;
@@ -28,14 +29,14 @@ public class Condition {
 
     /** All supported sub-condition types */
     @Getter
-    private static final Map<String, Function<String, Function<TabPlayer, Boolean>>> conditionTypes = new LinkedHashMap<>();
+    private static final Map<String, Function<String, SimpleCondition>> conditionTypes = new LinkedHashMap<>();
 
     /** Name of this condition defined in configuration */
     @Getter
     private final String name;
 
-    /** All defined sub-conditions inside this conditions */
-    protected final List<Function<TabPlayer, Boolean>> subConditions = new ArrayList<>();
+    /** All defined sub-conditions inside this conditions, ordered from the cheapest to evaluate */
+    protected final SimpleCondition[] subConditions;
 
     /** Condition type, {@code true} for AND type and {@code false} for OR type */
     private final boolean type;
@@ -47,28 +48,30 @@ public class Condition {
     private final String no;
 
     /**
-     * Refresh interval of placeholder created from this condition.
-     * It is calculated based on nested placeholders used in sub-conditions.
+     * Refresh interval of placeholder created from this condition. It is not lowered
+     * to refresh intervals of nested placeholders, their changes are pushed to the
+     * condition through parent placeholders instead, so only permission checks need
+     * to be refreshed periodically.
      */
     @Getter private int refresh = -1;
 
     /** List of all placeholders used inside this condition */
-    private final List<String> placeholdersInConditions = new ArrayList<>();
+    @Getter private final List<String> placeholdersInConditions = new ArrayList<>();
+
+    /** Placeholders read by sub-conditions, cached results are valid until one of them changes */
+    @NotNull private final String[] inputs;
 
     static {
-        conditionTypes.put(">=", line -> new NumericCondition(splitAndTrim(line, ">="), (left, right) -> left >= right)::isMet);
-        conditionTypes.put(">", line -> new NumericCondition(splitAndTrim(line, ">"), (left, right) -> left > right)::isMet);
-        conditionTypes.put("<=", line -> new NumericCondition(splitAndTrim(line, "<="), (left, right) -> left <= right)::isMet);
-        conditionTypes.put("<-", line -> new StringCondition(splitAndTrim(line, "<-"), String::contains)::isMet);
-        conditionTypes.put("<", line -> new NumericCondition(splitAndTrim(line, "<"), (left, right) -> left < right)::isMet);
-        conditionTypes.put("|-", line -> new StringCondition(splitAndTrim(line, "\\|-"), String::startsWith)::isMet);
-        conditionTypes.put("-|", line -> new StringCondition(splitAndTrim(line, "-\\|"), String::endsWith)::isMet);
-        conditionTypes.put("!=", line -> new StringCondition(splitAndTrim(line, "!="), (left, right) -> !left.equals(right))::isMet);
-        conditionTypes.put("=", line -> new StringCondition(splitAndTrim(line, "="), String::equals)::isMet);
-        conditionTypes.put("permission:", line -> {
-            String node = splitAndTrim(line, ":")[1];
-            return p -> p.hasPermission(node);
-        });
+        conditionTypes.put(">=", line -> new NumericCondition(splitAndTrim(line, ">="), (left, right) -> left >= right));
+        conditionTypes.put(">", line -> new NumericCondition(splitAndTrim(line, ">"), (left, right) -> left > right));
+        conditionTypes.put("<=", line -> new NumericCondition(splitAndTrim(line, "<="), (left, right) -> left <= right));
+        conditionTypes.put("<-", line -> new StringCondition(splitAndTrim(line, "<-"), String::contains));
+        conditionTypes.put("<", line -> new NumericCondition(splitAndTrim(line, "<"), (left, right) -> left < right));
+        conditionTypes.put("|-", line -> new StringCondition(splitAndTrim(line, "\\|-"), String::startsWith));
+        conditionTypes.put("-|", line -> new StringCondition(splitAndTrim(line, "-\\|"), String::endsWith));
+        conditionTypes.put("!=", line -> new StringCondition(splitAndTrim(line, "!="), (left, right) -> !left.equals(right)));
+        conditionTypes.put("=", line -> new StringCondition(splitAndTrim(line, "="), String::equals));
+        conditionTypes.put("permission:", line -> new PermissionCondition(splitAndTrim(line, ":")[1]));
     }
     
     @NotNull
@@ -96,14 +99,18 @@ public class Condition {
         this.name = name;
         this.yes = yes;
         this.no = no;
+        List<SimpleCondition> compiled = new ArrayList<>();
         for (String line : conditions) {
-            Function<TabPlayer, Boolean> condition = compile(line);
+            SimpleCondition condition = compile(line);
             if (condition != null) {
-                subConditions.add(condition);
+                compiled.add(condition);
             } else {
                 TAB.getInstance().getConfigHelper().startup().invalidConditionPattern(name, line);
             }
         }
+        // Stable sort, keeps configured order of conditions with the same cost
+        compiled.sort(Comparator.comparingInt(SimpleCondition::getCost));
+        subConditions = compiled.toArray(new SimpleCondition[0]);
         for (String subCondition : conditions) {
             if (subCondition.startsWith("permission:")) {
                 int permissionRefresh = TAB.getInstance().getConfiguration().getConfig().getPermissionRefreshInterval();
@@ -112,21 +119,20 @@ public class Condition {
                 placeholdersInConditions.addAll(PlaceholderManagerImpl.detectPlaceholders(subCondition));
             }
         }
+        inputs = placeholdersInConditions.stream().distinct().toArray(String[]::new);
         if (yes != null) placeholdersInConditions.addAll(PlaceholderManagerImpl.detectPlaceholders(yes));
         if (no != null) placeholdersInConditions.addAll(PlaceholderManagerImpl.detectPlaceholders(no));
         registeredConditions.put(name, this);
     }
 
     /**
-     * Configures refresh interval and registers nested placeholders
+     * Registers this condition as parent of nested placeholders, so their
+     * changes are pushed to the condition placeholder without the need to
+     * refresh it as often as the fastest nested placeholder.
      */
     public void finishSetup() {
         for (String placeholder : placeholdersInConditions) {
             TAB.getInstance().getPlaceholderManager().getPlaceholder(placeholder).addParent(TabConstants.Placeholder.condition(name));
-            Placeholder pl = TAB.getInstance().getPlaceholderManager().getPlaceholder(placeholder);
-            if (pl.getRefresh() < refresh && pl.getRefresh() != -1) {
-                refresh = pl.getRefresh();
-            }
         }
         TAB.getInstance().getPlaceholderManager().addUsedPlaceholders(placeholdersInConditions);
     }
@@ -143,21 +149,53 @@ public class Condition {
     }
 
     /**
-     * Returns {@code true} if condition is met for player, {@code false} if not
+     * Returns {@code true} if condition is met for player, {@code false} if not.
+     * Result is cached and only evaluated again once a placeholder used in
+     * sub-conditions changes value or permission refresh interval passes.
      *
      * @param   p
      *          player to check conditions for
      * @return  {@code true} if met, {@code false} if not
      */
     public boolean isMet(TabPlayer p) {
+        PlaceholderManagerImpl manager = TAB.getInstance().getPlaceholderManager();
+        int generation = manager.getRegistrationGeneration();
+        CachedResult cached = p.conditionResults.get(this);
+        if (cached != null && cached.isValid(p, generation)) return cached.met;
+        TabPlaceholder[] placeholders = new TabPlaceholder[inputs.length];
+        long[] versions = new long[inputs.length];
+        boolean cacheable = true;
+        for (int i = 0; i < inputs.length; i++) {
+            placeholders[i] = manager.getPlaceholder(inputs[i]);
+            versions[i] = placeholders[i].getVersion(p);
+            // Values with unresolved placeholders may change without version change
+            if (versions[i] == TabPlaceholder.UNVERSIONED || placeholders[i].getLastValueSafe(p).indexOf('%') != -1) cacheable = false;
+        }
+        boolean met = evaluate(p);
+        if (cacheable) {
+            // Permission results expire halfway to make sure periodic refresh checks them again
+            long validUntil = refresh == -1 ? Long.MAX_VALUE : System.currentTimeMillis() + refresh / 2;
+            p.conditionResults.put(this, new CachedResult(generation, placeholders, versions, validUntil, met));
+        }
+        return met;
+    }
+
+    /**
+     * Evaluates all sub-conditions for player without using cached result.
+     *
+     * @param   p
+     *          player to check conditions for
+     * @return  {@code true} if met, {@code false} if not
+     */
+    private boolean evaluate(@NotNull TabPlayer p) {
         if (type) {
-            for (Function<TabPlayer, Boolean> condition : subConditions) {
-                if (!condition.apply(p)) return false;
+            for (SimpleCondition condition : subConditions) {
+                if (!condition.isMet(p)) return false;
             }
             return true;
         } else {
-            for (Function<TabPlayer, Boolean> condition : subConditions) {
-                if (condition.apply(p)) return true;
+            for (SimpleCondition condition : subConditions) {
+                if (condition.isMet(p)) return true;
             }
             return false;
         }
@@ -256,12 +294,55 @@ public class Condition {
      *          condition line
      * @return  compiled condition or null if no valid pattern was found
      */
-    private static Function<TabPlayer, Boolean> compile(String line) {
-        for (Map.Entry<String, Function<String, Function<TabPlayer, Boolean>>> entry : conditionTypes.entrySet()) {
+    @Nullable
+    private static SimpleCondition compile(String line) {
+        for (Map.Entry<String, Function<String, SimpleCondition>> entry : conditionTypes.entrySet()) {
             if (line.contains(entry.getKey())) {
                 return entry.getValue().apply(line);
             }
         }
         return null;
     }
+
+    /**
+     * Result of condition evaluation together with versions of placeholders
+     * it was computed from.
+     */
+    @RequiredArgsConstructor
+    public static class CachedResult {
+
+        /** Placeholder registration generation the placeholder references belong to */
+        private final int generation;
+
+        /** Placeholders read by the condition */
+        @NotNull private final TabPlaceholder[] placeholders;
+
+        /** Versions of placeholder values the result was computed from */
+        @NotNull private final long[] versions;
+
+        /** Time in milliseconds until which permission checks are considered valid */
+        private final long validUntil;
+
+        /** Evaluation result */
+        private final boolean met;
+
+        /**
+         * Returns {@code true} if no placeholder changed value since this result was
+         * computed and permission refresh interval did not pass yet, {@code false} otherwise.
+         *
+         * @param   player
+         *          Player the result belongs to
+         * @param   generation
+         *          Current placeholder registration generation
+         * @return  {@code true} if result can be used, {@code false} if not
+         */
+        private boolean isValid(@NotNull TabPlayer player, int generation) {
+            if (this.generation != generation) return false;
+            if (validUntil != Long.MAX_VALUE && System.currentTimeMillis() >= validUntil) return false;
+            for (int i = 0; i < placeholders.length; i++) {
+                if (placeholders[i].getVersion(player) != versions[i]) return false;
+            }
+            return true;
+        }
+    }
 }
@@ -4,8 +4,6 @@ import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.function.BiFunction;
-
 /**
  * A class handling numeric conditions to avoid
  * repeated number parsing for static numbers and therefore
@@ -17,16 +15,16 @@ public class NumericCondition extends SimpleCondition {
     private boolean leftSideStatic;
 
     /** If left side is static, value is stored here */
-    private float leftSideValue;
+    private double leftSideValue;
 
     /** {@code true} if right side is a static number, {@code false} if it has placeholders */
     private boolean rightSideStatic;
 
     /** If right side is static, value is stored here */
-    private float rightSideValue;
+    private double rightSideValue;
 
     /** Function that determines whether condition is met or not */
-    private final BiFunction<Double, Double, Boolean> function;
+    private final Comparison function;
 
     /**
      * Constructs new instance with given parameters.
@@ -36,17 +34,17 @@ public class NumericCondition extends SimpleCondition {
      * @param   function
      *          Condition function
      */
-    public NumericCondition(@NotNull String[] arr, @NotNull BiFunction<Double, Double, Boolean> function) {
+    public NumericCondition(@NotNull String[] arr, @NotNull Comparison function) {
         super(arr);
         this.function = function;
         try {
-            leftSideValue = Float.parseFloat(leftSide);
+            leftSideValue = Double.parseDouble(leftSide);
             leftSideStatic = true;
         } catch (NumberFormatException e) {
             //not a valid number
         }
         try {
-            rightSideValue = Float.parseFloat(rightSide);
+            rightSideValue = Double.parseDouble(rightSide);
             rightSideStatic = true;
         } catch (NumberFormatException e) {
             //not a valid number
@@ -106,8 +104,31 @@ public class NumericCondition extends SimpleCondition {
         }
     }
 
+    @Override
+    public int getCost() {
+        return leftSideStatic && rightSideStatic ? COST_CONSTANT : COST_PLACEHOLDER;
+    }
+
     @Override
     public boolean isMet(@NotNull TabPlayer p) {
-        return function.apply(getLeftSide(p), getRightSide(p));
+        return function.test(getLeftSide(p), getRightSide(p));
+    }
+
+    /**
+     * Comparison of two numbers without boxing.
+     */
+    @FunctionalInterface
+    public interface Comparison {
+
+        /**
+         * Returns {@code true} if the numbers pass the comparison, {@code false} if not.
+         *
+         * @param   left
+         *          Left side of the condition
+         * @param   right
+         *          Right side of the condition
+         * @return  Result of the comparison
+         */
+        boolean test(double left, double right);
     }
 }
\ No newline at end of file
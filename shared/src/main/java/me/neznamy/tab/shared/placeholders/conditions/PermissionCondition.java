@@ -0,0 +1,30 @@
+package me.neznamy.tab.shared.placeholders.conditions;
+
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Condition checking whether player has a permission.
+ */
+public class PermissionCondition extends SimpleCondition {
+
+    /**
+     * Constructs new instance with given permission node.
+     *
+     * @param   node
+     *          Permission node to check
+     */
+    public PermissionCondition(@NotNull String node) {
+        super(new String[]{node});
+    }
+
+    @Override
+    public int getCost() {
+        return COST_PERMISSION;
+    }
+
+    @Override
+    public boolean isMet(@NotNull TabPlayer p) {
+        return p.hasPermission(leftSide);
+    }
+}
@@ -5,12 +5,22 @@ import me.neznamy.tab.shared.chat.EnumChatFormat;
 import me.neznamy.tab.shared.features.PlaceholderManagerImpl;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * An abstract class representing a simple condition
  */
 public abstract class SimpleCondition {
 
+    /** Evaluation cost of conditions without placeholders */
+    public static final int COST_CONSTANT = 0;
+
+    /** Evaluation cost of permission checks */
+    public static final int COST_PERMISSION = 1;
+
+    /** Evaluation cost of conditions with placeholders */
+    public static final int COST_PLACEHOLDER = 2;
+
     /** Text on the left side of condition */
     @NotNull protected final String leftSide;
     
@@ -23,11 +33,29 @@ public abstract class SimpleCondition {
     /** Placeholders used on the right side */
     @NotNull private final String[] rightSidePlaceholders;
 
+    /** Left side with translated colors if it does not contain placeholders, {@code null} if it does */
+    @Nullable private final String leftSideConstant;
+
+    /** Right side with translated colors if it does not contain placeholders, {@code null} if it does */
+    @Nullable private final String rightSideConstant;
+
     protected SimpleCondition(@NotNull String[] arr) {
         leftSide = arr.length < 1 ? "" : arr[0];
         leftSidePlaceholders = PlaceholderManagerImpl.detectPlaceholders(leftSide).toArray(new String[0]);
+        leftSideConstant = leftSidePlaceholders.length == 0 ? EnumChatFormat.color(leftSide) : null;
         rightSide = arr.length < 2 ? "" : arr[1];
         rightSidePlaceholders = PlaceholderManagerImpl.detectPlaceholders(rightSide).toArray(new String[0]);
+        rightSideConstant = rightSidePlaceholders.length == 0 ? EnumChatFormat.color(rightSide) : null;
+    }
+
+    /**
+     * Returns how expensive this condition is to evaluate. Cheaper conditions
+     * are evaluated first to skip the expensive ones when possible.
+     *
+     * @return  Evaluation cost of this condition
+     */
+    public int getCost() {
+        return leftSideConstant != null && rightSideConstant != null ? COST_CONSTANT : COST_PLACEHOLDER;
     }
 
     /**
@@ -38,6 +66,7 @@ public abstract class SimpleCondition {
      * @return  replaced left side
      */
     public @NotNull String parseLeftSide(@NotNull TabPlayer p) {
+        if (leftSideConstant != null) return leftSideConstant;
         return parseSide(p, leftSide, leftSidePlaceholders);
     }
     
@@ -49,6 +78,7 @@ public abstract class SimpleCondition {
      * @return   replaced right side
      */
     public @NotNull String parseRightSide(@NotNull TabPlayer p) {
+        if (rightSideConstant != null) return rightSideConstant;
         return parseSide(p, rightSide, rightSidePlaceholders);
     }
     
@@ -0,0 +1,114 @@
+package me.neznamy.tab.shared.placeholders.types;
+
+import lombok.NonNull;
+import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.cpu.CpuManager;
+import me.neznamy.tab.shared.cpu.TimedCaughtTask;
+import me.neznamy.tab.shared.platform.TabPlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+
+/**
+ * Player placeholder retrieving its value asynchronously. Requests do not block
+ * the placeholder refreshing thread, last known value is displayed until the request
+ * completes. While a request is in progress, further requests for the same player
+ * are skipped.
+ */
+public class AsyncPlayerPlaceholderImpl extends PlayerPlaceholderImpl {
+
+    /** Function starting value retrieval */
+    @NonNull private final Function<me.neznamy.tab.api.TabPlayer, CompletableFuture<String>> asyncFunction;
+
+    /** Time in milliseconds after which a request is considered failed */
+    private final int timeout;
+
+    /** Requests which did not complete yet */
+    private final Map<TabPlayer, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs new instance with given parameters
+     *
+     * @param   identifier
+     *          placeholder's identifier, must start and end with %
+     * @param   refresh
+     *          refresh interval in milliseconds, must be divisible by {@link TabConstants.Placeholder#MINIMUM_REFRESH_INTERVAL}
+     *          or equal to -1 to disable automatic refreshing
+     * @param   timeout
+     *          time in milliseconds after which the request is abandoned
+     * @param   asyncFunction
+     *          function starting retrieval of new value
+     */
+    public AsyncPlayerPlaceholderImpl(@NonNull String identifier, int refresh, int timeout,
+                                      @NonNull Function<me.neznamy.tab.api.TabPlayer, CompletableFuture<String>> asyncFunction) {
+        super(identifier, refresh, p -> null);
+        if (timeout <= 0) throw new IllegalArgumentException("Timeout must be positive (attempted to use " + timeout + ")");
+        this.asyncFunction = asyncFunction;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Starts an asynchronous request unless one is already in progress for the player.
+     * Result is applied in the main processing thread once it completes.
+     *
+     * @param   p
+     *          player to get placeholder value for
+     * @return  {@code null} to keep the last known value until the request completes,
+     *          or {@link #ERROR_VALUE} if the function threw an error or returned {@code null}
+     */
+    @Override
+    @Nullable
+    public String request(@NonNull TabPlayer p) {
+        if (inFlight.containsKey(p)) return null;
+        CompletableFuture<String> future;
+        try {
+            future = asyncFunction.apply(p);
+        } catch (Throwable t) {
+            TAB.getInstance().getErrorManager().placeholderError("Async player placeholder " + identifier + " generated an error when setting for player " + p.getName(), t);
+            return ERROR_VALUE;
+        }
+        if (future == null) {
+            TAB.getInstance().getErrorManager().placeholderError("Async player placeholder " + identifier +
+                    " returned null instead of a future for player " + p.getName(), (Throwable) null);
+            return ERROR_VALUE;
+        }
+        inFlight.put(p, future);
+        CpuManager cpu = TAB.getInstance().getCpu();
+        ScheduledFuture<?> timeoutTask = cpu.scheduleTimeout(new TimedCaughtTask(cpu, () -> {
+            if (inFlight.remove(p, future)) {
+                future.cancel(true);
+                TAB.getInstance().getErrorManager().placeholderError("Async player placeholder " + identifier +
+                        " did not return value for player " + p.getName() + " within " + timeout + "ms", (Throwable) null);
+            }
+        }, TAB.getInstance().getPlaceholderManager().getFeatureName(), TabConstants.CpuUsageCategory.PLACEHOLDER_SAVE), timeout);
+        future.whenComplete((value, error) -> {
+            if (timeoutTask != null) timeoutTask.cancel(false);
+            if (!inFlight.remove(p, future)) return; // Timed out
+            if (error != null) {
+                TAB.getInstance().getErrorManager().placeholderError("Async player placeholder " + identifier + " generated an error when setting for player " + p.getName(), error);
+                return;
+            }
+            cpu.getProcessingThread().execute(new TimedCaughtTask(cpu, () -> {
+                if (p.isOnline()) updateValue(p, value);
+            }, TAB.getInstance().getPlaceholderManager().getFeatureName(), TabConstants.CpuUsageCategory.PLACEHOLDER_SAVE));
+        });
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if a request is currently in progress for specified player.
+     *
+     * @param   player
+     *          Player to check
+     * @return  {@code true} if a request is in progress, {@code false} if not
+     */
+    public boolean isInFlight(@NotNull TabPlayer player) {
+        return inFlight.containsKey(player);
+    }
+}
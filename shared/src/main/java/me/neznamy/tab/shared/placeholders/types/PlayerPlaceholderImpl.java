@@ -4,8 +4,6 @@ import lombok.NonNull;
 import me.neznamy.tab.api.placeholder.PlayerPlaceholder;
 import me.neznamy.tab.shared.TAB;
 import me.neznamy.tab.shared.TabConstants;
-import me.neznamy.tab.shared.cpu.TimedCaughtTask;
-import me.neznamy.tab.shared.features.types.CustomThreaded;
 import me.neznamy.tab.shared.features.types.RefreshableFeature;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.NotNull;
@@ -50,22 +48,19 @@ public class PlayerPlaceholderImpl extends TabPlaceholder implements PlayerPlace
     public void updateValue(@NonNull me.neznamy.tab.api.TabPlayer player, @Nullable String value) {
         if (hasValueChanged((TabPlayer) player, value, true)) {
             if (!player.isLoaded()) return; // Updated on join
+            if (identifier.equals(TabConstants.Placeholder.GAMEMODE)) {
+                TAB.getInstance().getFeatureManager().onGameModeChange((TabPlayer) player);
+            }
             for (RefreshableFeature r : TAB.getInstance().getPlaceholderManager().getPlaceholderUsage(identifier)) {
-                TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(), () -> r.refresh((TabPlayer) player, false),
-                        r.getFeatureName(), r.getRefreshDisplayName());
-                if (r instanceof CustomThreaded) {
-                    ((CustomThreaded) r).getCustomThread().execute(task);
-                } else {
-                    task.run();
-                }
+                TAB.getInstance().getPlaceholderManager().scheduleRefresh(r, (TabPlayer) player, false);
             }
         }
     }
 
     /**
-     * Bulk-updates all listed placeholders for a player. The advantage of using this method is that
-     * {@link RefreshableFeature#refresh(TabPlayer, boolean)} is only called a single time instead of
-     * for every changed placeholder, causing inefficiency.
+     * Bulk-updates all listed placeholders for a player. Features using multiple changed placeholders
+     * are only refreshed once, which is also the case for placeholders updated one by one within
+     * the same refresh cycle.
      *
      * @param   player
      *          Player to update placeholders for
@@ -81,13 +76,7 @@ public class PlayerPlaceholderImpl extends TabPlaceholder implements PlayerPlace
         }
         if (!player.isLoaded()) return;
         for (RefreshableFeature r : features) {
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(), () -> r.refresh(player, false),
-                    r.getFeatureName(), r.getRefreshDisplayName());
-            if (r instanceof CustomThreaded) {
-                ((CustomThreaded) r).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+            TAB.getInstance().getPlaceholderManager().scheduleRefresh(r, player, false);
         }
     }
 
@@ -108,6 +97,7 @@ public class PlayerPlaceholderImpl extends TabPlaceholder implements PlayerPlace
         String newValue = replacements.findReplacement(setPlaceholders(value, p));
         String lastValue = p.lastPlaceholderValues.put(this, newValue);
         if (lastValue == null || (!identifier.equals(newValue) && !newValue.equals(lastValue))) {
+            p.placeholderVersions.put(this, nextVersion());
             if (updateParents) updateParents(p);
             TAB.getInstance().getPlaceholderManager().getTabExpansion().setPlaceholderValue(p, identifier, newValue);
             return true;
@@ -115,6 +105,12 @@ public class PlayerPlaceholderImpl extends TabPlaceholder implements PlayerPlace
         return false;
     }
 
+    @Override
+    public long getVersion(@NotNull TabPlayer player) {
+        Long version = player.placeholderVersions.get(this);
+        return version == null ? 0 : version;
+    }
+
     @Override
     public void updateFromNested(@NonNull TabPlayer player) {
         hasValueChanged(player, request(player), true);
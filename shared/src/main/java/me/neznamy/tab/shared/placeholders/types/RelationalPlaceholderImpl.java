@@ -7,8 +7,6 @@ import java.util.WeakHashMap;
 import java.util.function.BiFunction;
 
 import lombok.NonNull;
-import me.neznamy.tab.shared.cpu.TimedCaughtTask;
-import me.neznamy.tab.shared.features.types.CustomThreaded;
 import me.neznamy.tab.shared.features.types.RefreshableFeature;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.shared.chat.EnumChatFormat;
@@ -53,13 +51,7 @@ public class RelationalPlaceholderImpl extends TabPlaceholder implements Relatio
     public void updateValue(@NonNull me.neznamy.tab.api.TabPlayer viewer, @NonNull me.neznamy.tab.api.TabPlayer target, @Nullable String value) {
         if (hasValueChanged((TabPlayer) viewer, (TabPlayer) target, value)) {
             for (RefreshableFeature r : TAB.getInstance().getPlaceholderManager().getPlaceholderUsage(identifier)) {
-                TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(), () -> r.refresh((TabPlayer) target, true),
-                        r.getFeatureName(), r.getRefreshDisplayName());
-                if (r instanceof CustomThreaded) {
-                    ((CustomThreaded) r).getCustomThread().execute(task);
-                } else {
-                    task.run();
-                }
+                TAB.getInstance().getPlaceholderManager().scheduleRefresh(r, (TabPlayer) target, true);
             }
         }
     }
@@ -97,25 +89,13 @@ public class RelationalPlaceholderImpl extends TabPlaceholder implements Relatio
             viewer.lastRelationalValues.computeIfAbsent(this, v -> Collections.synchronizedMap(new WeakHashMap<>())).put(target, s);
             if (!target.isLoaded()) return; // Updated on join
             for (RefreshableFeature f : usage) {
-                TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(), () -> f.refresh(target, true),
-                        f.getFeatureName(), f.getRefreshDisplayName());
-                if (f instanceof CustomThreaded) {
-                    ((CustomThreaded) f).getCustomThread().execute(task);
-                } else {
-                    task.run();
-                }
+                TAB.getInstance().getPlaceholderManager().scheduleRefresh(f, target, true);
             }
             updateParents(target);
         }
         if (!viewer.isLoaded()) return; // Updated on join
         for (RefreshableFeature f : usage) {
-            TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(), () -> f.refresh(viewer, true),
-                    f.getFeatureName(), f.getRefreshDisplayName());
-            if (f instanceof CustomThreaded) {
-                ((CustomThreaded) f).getCustomThread().execute(task);
-            } else {
-                task.run();
-            }
+            TAB.getInstance().getPlaceholderManager().scheduleRefresh(f, viewer, true);
         }
         updateParents(viewer);
     }
@@ -4,8 +4,6 @@ import java.util.function.Supplier;
 
 import lombok.Getter;
 import lombok.NonNull;
-import me.neznamy.tab.shared.cpu.TimedCaughtTask;
-import me.neznamy.tab.shared.features.types.CustomThreaded;
 import me.neznamy.tab.shared.features.types.RefreshableFeature;
 import me.neznamy.tab.shared.platform.TabPlayer;
 import me.neznamy.tab.api.placeholder.ServerPlaceholder;
@@ -27,6 +25,9 @@ public class ServerPlaceholderImpl extends TabPlaceholder implements ServerPlace
     @NotNull
     private String lastValue = identifier;
 
+    /** Version stamp of last known output */
+    private volatile long version;
+
     /**
      * Constructs new instance with given parameters
      *
@@ -55,13 +56,8 @@ public class ServerPlaceholderImpl extends TabPlaceholder implements ServerPlace
         if (hasValueChanged(value)) {
             for (RefreshableFeature r : TAB.getInstance().getPlaceholderManager().getPlaceholderUsage(identifier)) {
                 for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
-                    if (!all.isLoaded()) return; // Updated on join
-                    TimedCaughtTask task = new TimedCaughtTask(TAB.getInstance().getCpu(), () -> r.refresh(all, false), r.getFeatureName(), r.getRefreshDisplayName());
-                    if (r instanceof CustomThreaded) {
-                        ((CustomThreaded) r).getCustomThread().execute(task);
-                    } else {
-                        task.run();
-                    }
+                    if (!all.isLoaded()) continue; // Updated on join
+                    TAB.getInstance().getPlaceholderManager().scheduleRefresh(r, all, false);
                 }
             }
         }
@@ -73,6 +69,7 @@ public class ServerPlaceholderImpl extends TabPlaceholder implements ServerPlace
 
         if (!ERROR_VALUE.equals(newValue) && !identifier.equals(newValue) && !lastValue.equals(newValue)) {
             lastValue = newValue;
+            version = nextVersion();
             for (TabPlayer player : TAB.getInstance().getOnlinePlayers()) {
                 updateParents(player);
                 TAB.getInstance().getPlaceholderManager().getTabExpansion().setPlaceholderValue(player, identifier, newValue);
@@ -82,6 +79,20 @@ public class ServerPlaceholderImpl extends TabPlaceholder implements ServerPlace
         return false;
     }
 
+    @Override
+    public long getVersion(@NotNull TabPlayer player) {
+        return version;
+    }
+
+    /**
+     * Returns version stamp of last known output, which changes every time the output changes.
+     *
+     * @return  Version stamp of last known output
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public void updateFromNested(@NonNull TabPlayer unused) {
         hasValueChanged(request());
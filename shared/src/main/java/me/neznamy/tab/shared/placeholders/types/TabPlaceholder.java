@@ -3,9 +3,11 @@ package me.neznamy.tab.shared.placeholders.types;
 import lombok.Getter;
 import lombok.NonNull;
 import me.neznamy.tab.shared.TabConstants;
+import me.neznamy.tab.shared.cpu.LatencyHistogram;
 import me.neznamy.tab.shared.features.PlaceholderManagerImpl;
 import me.neznamy.tab.shared.placeholders.PlaceholderReplacementPattern;
 import me.neznamy.tab.shared.platform.TabPlayer;
+import me.neznamy.tab.shared.util.cache.Cache;
 import me.neznamy.tab.api.placeholder.Placeholder;
 import me.neznamy.tab.shared.TAB;
 import org.jetbrains.annotations.NotNull;
@@ -13,6 +15,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * General collection of variables and functions shared between all placeholder types
@@ -26,6 +29,16 @@ public abstract class TabPlaceholder implements Placeholder {
      */
     protected final String ERROR_VALUE = "ERROR";
 
+    /** Version returned by placeholders which do not track versions of their values */
+    public static final long UNVERSIONED = -1;
+
+    /** Source of version stamps, shared by all placeholders to keep stamps unique */
+    private static final AtomicLong versionSequence = new AtomicLong();
+
+    /** Nested placeholders detected in placeholder outputs, outputs tend to repeat */
+    private static final Cache<String, String[]> nestedPlaceholderCache = new Cache<>("Nested placeholders", 1000,
+            output -> PlaceholderManagerImpl.detectPlaceholders(output).toArray(new String[0]));
+
     /** Refresh interval of the placeholder */
     private final int refresh;
 
@@ -35,6 +48,9 @@ public abstract class TabPlaceholder implements Placeholder {
     /** Configured placeholder output replacements */
     @NonNull protected final PlaceholderReplacementPattern replacements;
 
+    /** Identifier of the placeholder synced by this placeholder if it is a {@code %sync:} placeholder, {@code null} otherwise */
+    @Nullable private final String syncedIdentifier;
+
     /**
      * List of placeholders using this placeholder as a nested placeholder,
      * mutual tracking allows faster parent placeholder changes when a nested
@@ -42,6 +58,21 @@ public abstract class TabPlaceholder implements Placeholder {
      */
     protected final List<String> parents = new ArrayList<>();
 
+    /** Latencies of value requests in the current evaluation period */
+    @NotNull private final LatencyHistogram latency = new LatencyHistogram();
+
+    /** Latencies of value requests in the last completed evaluation period */
+    @Nullable private volatile LatencyHistogram.Snapshot lastLatency;
+
+    /**
+     * Multiplier of refresh interval applied when this placeholder
+     * exceeds configured latency budget, {@code 1} if not slowed down.
+     */
+    private int refreshMultiplier = 1;
+
+    /** Flag tracking whether this placeholder was already reported as slow */
+    private boolean reportedSlow;
+
     /**
      * Constructs new instance with given parameters and loads placeholder output replacements
      *
@@ -58,6 +89,7 @@ public abstract class TabPlaceholder implements Placeholder {
             throw new IllegalArgumentException("Identifier must start and end with % (attempted to use \"" + identifier + "\")");
         this.identifier = identifier;
         this.refresh = refresh;
+        syncedIdentifier = identifier.startsWith("%sync:") ? "%" + identifier.substring(6) : null;
         replacements = TAB.getInstance().getConfiguration().getConfig().getReplacements().compiled.getOrDefault(identifier, PlaceholderReplacementPattern.EMPTY);
         for (String nested : getNestedPlaceholders("")) {
             TAB.getInstance().getPlaceholderManager().getPlaceholder(nested).addParent(identifier);
@@ -67,6 +99,63 @@ public abstract class TabPlaceholder implements Placeholder {
         }
     }
 
+    /**
+     * Returns refresh interval including backoff caused by exceeding the latency budget.
+     *
+     * @return  Refresh interval the placeholder is actually refreshed with
+     */
+    public int getEffectiveRefresh() {
+        return refresh == -1 ? -1 : refresh * refreshMultiplier;
+    }
+
+    /**
+     * Finishes current latency evaluation period and adjusts refresh interval backoff
+     * based on 99th percentile of request latency. If it exceeds the budget, refresh
+     * interval is doubled up to {@code maxRefresh}. If it is within the budget, the backoff
+     * is halved until the placeholder is refreshed with its configured interval again.
+     *
+     * @param   budget
+     *          Maximum allowed 99th percentile of request latency in nanoseconds
+     * @param   maxRefresh
+     *          Maximum refresh interval the backoff can reach
+     * @return  {@code true} if placeholder exceeded the budget for the first time, {@code false} otherwise
+     */
+    public boolean evaluateLatency(long budget, int maxRefresh) {
+        LatencyHistogram.Snapshot snapshot = latency.snapshotAndReset();
+        lastLatency = snapshot;
+        if (refresh == -1) return false;
+        if (snapshot.getP99() > budget) {
+            if (getEffectiveRefresh() * 2 <= maxRefresh) refreshMultiplier *= 2;
+            if (reportedSlow) return false;
+            reportedSlow = true;
+            return true;
+        }
+        if (refreshMultiplier > 1) refreshMultiplier /= 2;
+        return false;
+    }
+
+    /**
+     * Returns a new unique version stamp for a changed value.
+     *
+     * @return  New version stamp
+     */
+    protected static long nextVersion() {
+        return versionSequence.incrementAndGet();
+    }
+
+    /**
+     * Returns version stamp of last known value for specified player. The stamp
+     * changes every time the value changes, allowing results computed from the
+     * value to be cached until then.
+     *
+     * @param   player
+     *          Player to get value version of
+     * @return  Version stamp of the value or {@link #UNVERSIONED} if not tracked
+     */
+    public long getVersion(@NotNull TabPlayer player) {
+        return UNVERSIONED;
+    }
+
     /**
      * Replaces this placeholder in given string and returns output. If the entered string
      * is equal to the placeholder identifier or does not contain the identifier at all,
@@ -125,10 +214,10 @@ public abstract class TabPlaceholder implements Placeholder {
      * @return  text with replaced placeholders in output
      */
     protected @NotNull String setPlaceholders(@NonNull String text, @Nullable TabPlayer p) {
-        if (identifier.equals(text)) return text;
+        if (text.indexOf('%') == -1 || identifier.equals(text)) return text;
         String replaced = text;
-        for (String s : getNestedPlaceholders(text)) {
-            if (s.equals(identifier) || (identifier.startsWith("%sync:") && ("%" + identifier.substring(6)).equals(s)) || s.startsWith("%rel_")) continue;
+        for (String s : nestedPlaceholderCache.get(text)) {
+            if (s.equals(identifier) || s.equals(syncedIdentifier) || s.startsWith("%rel_")) continue;
             replaced = TAB.getInstance().getPlaceholderManager().getPlaceholder(s).set(replaced, p);
         }
         return replaced;
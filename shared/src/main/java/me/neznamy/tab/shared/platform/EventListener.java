@@ -1,6 +1,8 @@
 package me.neznamy.tab.shared.platform;
 
+import me.neznamy.tab.api.placeholder.PlayerPlaceholder;
 import me.neznamy.tab.shared.TAB;
+import me.neznamy.tab.shared.TabConstants;
 import me.neznamy.tab.shared.TabConstants.CpuUsageCategory;
 import me.neznamy.tab.shared.cpu.TimedCaughtTask;
 import me.neznamy.tab.shared.task.PluginMessageDecodeTask;
@@ -99,6 +101,29 @@ public interface EventListener<T> {
         return TAB.getInstance().getFeatureManager().onCommand(TAB.getInstance().getPlayer(player), command);
     }
 
+    /**
+     * Marks player state tracked by given placeholder as changed and schedules the
+     * placeholder to be updated. Events are usually called before the change is applied,
+     * so the update is delayed by a tick. Multiple changes before the update are merged
+     * into a single update using per-player dirty flags.
+     *
+     * @param   player
+     *          UUID of player whose state changed
+     * @param   placeholder
+     *          Placeholder identifier of the state ({@link TabConstants.Placeholder#GAMEMODE},
+     *          {@link TabConstants.Placeholder#INVISIBLE} or {@link TabConstants.Placeholder#COLLISION})
+     */
+    default void playerStateChange(@NotNull UUID player, @NotNull String placeholder) {
+        if (TAB.getInstance().isPluginDisabled()) return;
+        TabPlayer p = TAB.getInstance().getPlayer(player);
+        if (p == null || !p.dirtyStates.add(placeholder)) return;
+        TAB.getInstance().getCpu().getProcessingThread().executeLater(new TimedCaughtTask(TAB.getInstance().getCpu(), () -> {
+            p.dirtyStates.remove(placeholder);
+            if (!p.isOnline()) return;
+            ((PlayerPlaceholder) TAB.getInstance().getPlaceholderManager().getPlaceholder(placeholder)).update(p);
+        }, "Player state change", CpuUsageCategory.STATE_CHANGE_EVENT), 50);
+    }
+
     /**
      * Creates new TabPlayer instance from given player object.
      *
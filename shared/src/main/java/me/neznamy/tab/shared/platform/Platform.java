@@ -15,6 +15,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.util.ConcurrentModificationException;
+import java.util.UUID;
 
 /**
  * An interface with methods that are called in universal code,
@@ -201,4 +202,19 @@ public interface Platform {
         }
         return !target.isVanished() || viewer.hasPermission(TabConstants.Permission.SEE_VANISHED);
     }
+
+    /**
+     * Returns {@code true} if platform reports all changes of player state tracked by
+     * given placeholder using {@link EventListener#playerStateChange(UUID, String)}
+     * (or the value cannot change at all), making periodic refreshing unnecessary.
+     * Supported placeholders are {@link TabConstants.Placeholder#GAMEMODE},
+     * {@link TabConstants.Placeholder#INVISIBLE} and {@link TabConstants.Placeholder#COLLISION}.
+     *
+     * @param   placeholder
+     *          Placeholder identifier of the player state
+     * @return  {@code true} if state changes are reported by events, {@code false} if it must be polled
+     */
+    default boolean hasStateChangeEvent(@NotNull String placeholder) {
+        return false;
+    }
 }
\ No newline at end of file
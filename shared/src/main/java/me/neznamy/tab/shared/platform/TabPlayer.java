@@ -15,6 +15,7 @@ import me.neznamy.tab.shared.features.nametags.NameTag;
 import me.neznamy.tab.shared.features.scoreboard.ScoreboardManagerImpl;
 import me.neznamy.tab.shared.features.sorting.Sorting;
 import me.neznamy.tab.shared.hook.FloodgateHook;
+import me.neznamy.tab.shared.placeholders.conditions.Condition;
 import me.neznamy.tab.shared.*;
 import me.neznamy.tab.shared.features.types.RefreshableFeature;
 import me.neznamy.tab.shared.event.impl.PlayerLoadEventImpl;
@@ -114,12 +115,21 @@ public abstract class TabPlayer implements me.neznamy.tab.api.TabPlayer {
     /** Data for plugin's PlaceholderAPI expansion */
     public final Map<String, String> expansionValues = new HashMap<>();
 
+    /** Identifiers of player state placeholders which changed and are waiting to be updated */
+    public final Set<String> dirtyStates = ConcurrentHashMap.newKeySet();
+
     /** LuckPerms user for fast access */
     @Nullable public User luckPermsUser;
 
     /** Last known values for each player placeholder after applying replacements and nested placeholders */
     public final Map<PlayerPlaceholder, String> lastPlaceholderValues = new ConcurrentHashMap<>();
 
+    /** Version stamps of last known player placeholder values, changed every time a value changes */
+    public final Map<PlayerPlaceholder, Long> placeholderVersions = new ConcurrentHashMap<>();
+
+    /** Cached condition results together with versions of placeholders they were computed from */
+    public final Map<Condition, Condition.CachedResult> conditionResults = new ConcurrentHashMap<>();
+
     /** Last known values for each relational placeholder after applying replacements and nested placeholders */
     public final Map<RelationalPlaceholder, Map<TabPlayer, String>> lastRelationalValues = new ConcurrentHashMap<>();
 
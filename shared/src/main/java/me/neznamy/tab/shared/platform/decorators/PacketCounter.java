@@ -0,0 +1,55 @@
+package me.neznamy.tab.shared.platform.decorators;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter of packets sent through platform decorators by packet type.
+ * Counting is disabled by default and only enabled while metrics are exported.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PacketCounter {
+
+    /** Flag tracking whether packets should be counted or not */
+    @Getter
+    @Setter
+    private static volatile boolean enabled;
+
+    /** Amount of sent packets by packet type */
+    private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Counts a sent packet of given type if counting is enabled.
+     *
+     * @param   type
+     *          Packet type
+     */
+    public static void count(@NotNull String type) {
+        if (!enabled) return;
+        LongAdder counter = counters.get(type);
+        if (counter == null) counter = counters.computeIfAbsent(type, t -> new LongAdder());
+        counter.increment();
+    }
+
+    /**
+     * Returns amount of sent packets by packet type since counting was first enabled.
+     *
+     * @return  Amount of sent packets by packet type
+     */
+    @NotNull
+    public static Map<String, Long> getCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+        return counts;
+    }
+}
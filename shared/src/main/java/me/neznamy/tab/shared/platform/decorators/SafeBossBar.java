@@ -34,6 +34,7 @@ public abstract class SafeBossBar<T> implements BossBar {
         BossBarInfo bar = new BossBarInfo(title, progress, color, style, constructBossBar(title, progress, color, style));
         bossBars.put(id, bar);
         if (frozen) return;
+        PacketCounter.count("bossbar_create");
         create(bar);
     }
 
@@ -43,6 +44,7 @@ public abstract class SafeBossBar<T> implements BossBar {
         if (bar == null) return;
         bar.setTitle(title);
         if (frozen) return;
+        PacketCounter.count("bossbar_update_title");
         updateTitle(bar);
     }
 
@@ -52,6 +54,7 @@ public abstract class SafeBossBar<T> implements BossBar {
         if (bar == null) return;
         bar.setProgress(progress);
         if (frozen) return;
+        PacketCounter.count("bossbar_update_progress");
         updateProgress(bar);
     }
 
@@ -61,6 +64,7 @@ public abstract class SafeBossBar<T> implements BossBar {
         if (bar == null) return;
         bar.setStyle(style);
         if (frozen) return;
+        PacketCounter.count("bossbar_update_style");
         updateStyle(bar);
     }
 
@@ -70,6 +74,7 @@ public abstract class SafeBossBar<T> implements BossBar {
         if (bar == null) return;
         bar.setColor(color);
         if (frozen) return;
+        PacketCounter.count("bossbar_update_color");
         updateColor(bar);
     }
 
@@ -78,6 +83,7 @@ public abstract class SafeBossBar<T> implements BossBar {
         BossBarInfo bar = bossBars.remove(id);
         if (bar == null) return;
         if (frozen) return;
+        PacketCounter.count("bossbar_remove");
         remove(bar);
     }
 
@@ -103,6 +109,7 @@ public abstract class SafeBossBar<T> implements BossBar {
         for (BossBarInfo bar : bossBars.values()) {
             // Destroy previous reference due to Adventure bug
             bar.setBossBar(constructBossBar(bar.getTitle(), bar.getProgress(), bar.getColor(), bar.getStyle()));
+            PacketCounter.count("bossbar_create");
             create(bar);
         }
     }
@@ -65,6 +65,7 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
             return;
         }
         if (frozen) return;
+        PacketCounter.count("objective_register");
         registerObjective(objective);
     }
 
@@ -76,6 +77,7 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
             return;
         }
         if (frozen) return;
+        PacketCounter.count("objective_unregister");
         unregisterObjective(objective);
     }
 
@@ -89,6 +91,7 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
         }
         objective.update(title, display, numberFormat);
         if (frozen) return;
+        PacketCounter.count("objective_update");
         updateObjective(objective);
     }
 
@@ -108,6 +111,7 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
             score.update(value, displayName, numberFormat);
         }
         if (frozen) return;
+        PacketCounter.count("score_set");
         setScore(score);
     }
 
@@ -121,6 +125,7 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
         Score score = objective.getScores().remove(scoreHolder);
         if (score == null) return;
         if (frozen) return;
+        PacketCounter.count("score_remove");
         removeScore(score);
     }
 
@@ -135,6 +140,7 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
             return;
         }
         if (frozen) return;
+        PacketCounter.count("team_register");
         registerTeam(team);
     }
 
@@ -146,6 +152,7 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
             return;
         }
         if (frozen) return;
+        PacketCounter.count("team_unregister");
         unregisterTeam(team);
     }
 
@@ -160,6 +167,7 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
         }
         team.update(prefix, suffix, visibility, collision, options, color);
         if (frozen) return;
+        PacketCounter.count("team_update");
         updateTeam(team);
     }
 
@@ -169,6 +177,7 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
         if (team == null) return;
         team.update(prefix, suffix, color);
         if (frozen) return;
+        PacketCounter.count("team_update");
         updateTeam(team);
     }
 
@@ -178,6 +187,7 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
         if (team == null) return;
         team.collision = collision;
         if (frozen) return;
+        PacketCounter.count("team_update");
         updateTeam(team);
     }
 
@@ -187,6 +197,7 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
         if (team == null) return;
         team.visibility = visibility;
         if (frozen) return;
+        PacketCounter.count("team_update");
         updateTeam(team);
     }
 
@@ -201,12 +212,15 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
     @Override
     public synchronized void resend() {
         for (Objective objective : objectives.values()) {
+            PacketCounter.count("objective_register");
             registerObjective(objective);
             for (Score score : objective.getScores().values()) {
+                PacketCounter.count("score_set");
                 setScore(score);
             }
         }
         for (Team team : teams.values()) {
+            PacketCounter.count("team_register");
             registerTeam(team);
         }
     }
@@ -230,6 +244,7 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
     public synchronized void unregisterTeamSafe(@NonNull String teamName) {
         Team team = teams.remove(teamName);
         if (team == null || frozen) return;
+        PacketCounter.count("team_unregister");
         unregisterTeam(team);
     }
 
@@ -277,6 +292,19 @@ public abstract class SafeScoreboard<T extends TabPlayer> implements Scoreboard
         // Implemented by platforms with pipeline injection
     }
 
+    /**
+     * Returns {@code true} if packets of given class should be forwarded into
+     * {@link #onPacketSend(Object)}, {@code false} if not. The result is cached
+     * per class, therefore it must not depend on any other state.
+     *
+     * @param   packetClass
+     *          Class of the packet
+     * @return  {@code true} if packet should be forwarded, {@code false} if not
+     */
+    public boolean isPacketTracked(@NonNull Class<?> packetClass) {
+        return false; // Implemented by platforms with pipeline injection
+    }
+
     /**
      * Checks if team contains a player who should belong to a different team and if override attempt was detected,
      * sends a warning and removes player from the collection.
@@ -7,6 +7,8 @@ import me.neznamy.tab.shared.platform.TabPlayer;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Decorated class for TabList that tracks entries and their expected values.
@@ -27,21 +29,83 @@ public abstract class TrackedTabList<P extends TabPlayer, C> implements TabList
     @Getter
     private boolean antiOverride;
 
+    /**
+     * Maximum amount of display name check calls between two actual checks. Platforms with
+     * periodic checks offer no tablist mutation events, so overrides by other plugins are only
+     * detected by checking all entries. This bounds the time an override can stay visible
+     * (2 seconds at 500ms).
+     */
+    private static final int MAX_CHECK_INTERVAL = 4;
+
+    /** Amount of updates which were not sent because the entry already had the value, per action */
+    private static final Map<Action, AtomicLong> suppressedUpdates = new EnumMap<>(Action.class);
+
+    static {
+        for (Action action : Action.values()) {
+            suppressedUpdates.put(action, new AtomicLong());
+        }
+    }
+
     /** Expected names based on configuration, saving to restore them if another plugin overrides them */
     @Getter
-    private final Map<UUID, C> expectedDisplayNames = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<UUID, C> expectedDisplayNames = new ConcurrentHashMap<>();
+
+    /** Display names last sent to each entry, used to skip sending identical updates */
+    private final Map<UUID, SentValues> sentValues = new ConcurrentHashMap<>();
+
+    /** Current amount of display name check calls between two actual checks */
+    private int checkInterval = 1;
+
+    /** Remaining display name check calls until next actual check */
+    private int callsUntilCheck;
 
     @Override
     public void updateDisplayName(@NonNull UUID entry, @Nullable TabComponent displayName) {
         C component = displayName == null ? null : toComponent(displayName);
-        if (antiOverride) expectedDisplayNames.put(entry, component);
-        updateDisplayName(entry, component);
+        SentValues values = sentValues.computeIfAbsent(entry, id -> new SentValues());
+        synchronized (values) {
+            if (values.displayNameSent && values.displayName == component) {
+                suppressedUpdates.get(Action.UPDATE_DISPLAY_NAME).incrementAndGet();
+                return;
+            }
+            values.displayName = component;
+            values.displayNameSent = true;
+            if (antiOverride) setExpectedDisplayName(entry, component);
+            PacketCounter.count("tablist_update_display_name");
+            updateDisplayName(entry, component);
+        }
+    }
+
+    @Override
+    public void removeEntry(@NonNull UUID entry) {
+        sentValues.remove(entry);
+        PacketCounter.count("tablist_remove_player");
+        removeEntry0(entry);
+    }
+
+    @Override
+    public void updateLatency(@NonNull UUID entry, int latency) {
+        // Not deduplicated, server and backend servers overwrite latency without TAB knowing
+        PacketCounter.count("tablist_update_latency");
+        updateLatency0(entry, latency);
+    }
+
+    @Override
+    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+        // Not deduplicated, server resends real game mode on world and game mode changes without TAB knowing
+        PacketCounter.count("tablist_update_game_mode");
+        updateGameMode0(entry, gameMode);
     }
 
     @Override
     public void addEntry(@NonNull Entry entry) {
         C component = entry.getDisplayName() == null ? null : toComponent(entry.getDisplayName());
-        if (antiOverride) expectedDisplayNames.put(entry.getUniqueId(), component);
+        if (antiOverride) setExpectedDisplayName(entry.getUniqueId(), component);
+        SentValues values = new SentValues();
+        values.displayName = component;
+        values.displayNameSent = true;
+        sentValues.put(entry.getUniqueId(), values);
+        PacketCounter.count("tablist_add_player");
         addEntry(entry.getUniqueId(), entry.getName(), entry.getSkin(), entry.isListed(), entry.getLatency(), entry.getGameMode(), component, entry.getListOrder());
         if (player.getVersion().getMinorVersion() == 8) {
             // Compensation for 1.8.0 client sided bug
@@ -50,12 +114,94 @@ public abstract class TrackedTabList<P extends TabPlayer, C> implements TabList
     }
 
     /**
-     * Checks if all entries have display names as configured and if not,
+     * Forgets all display names sent to this tablist, forcing next updates to be sent
+     * even if they are identical. Used when tablist is modified by something
+     * else, such as on server switch.
+     */
+    public void resetSentValues() {
+        sentValues.clear();
+    }
+
+    /**
+     * Forgets display name sent to specified entry, forcing next updates to be sent
+     * even if they are identical. Used when entry is modified by something else,
+     * such as when it is re-added by the server.
+     *
+     * @param   entry
+     *          Entry to forget display name of
+     */
+    public void resetSentValues(@NonNull UUID entry) {
+        sentValues.remove(entry);
+    }
+
+    /**
+     * Returns amount of updates which were not sent because the entry
+     * already had the value, since plugin was enabled.
+     *
+     * @param   action
+     *          Update action, only {@link Action#UPDATE_DISPLAY_NAME} updates are suppressed
+     * @return  Amount of suppressed updates of given action
+     */
+    public static long getSuppressedUpdates(@NonNull Action action) {
+        return suppressedUpdates.get(action).get();
+    }
+
+    /**
+     * Saves expected display name of an entry.
+     *
+     * @param   entry
+     *          Entry to save display name of
+     * @param   displayName
+     *          Expected display name, {@code null} to not expect anything
+     */
+    private void setExpectedDisplayName(@NonNull UUID entry, @Nullable C displayName) {
+        if (displayName == null) {
+            expectedDisplayNames.remove(entry);
+        } else {
+            expectedDisplayNames.put(entry, displayName);
+        }
+    }
+
+    /**
+     * Checks if entries have display names as configured and if not,
      * they are forced. Only works on platforms with a full TabList API.
      * Not needed for platforms which support pipeline injection.
+     * Entries are only verified once per {@link #checkInterval} calls.
+     * This interval doubles with every check which did not find any override,
+     * up to {@link #MAX_CHECK_INTERVAL}, and resets once an override is found.
      */
     public void checkDisplayNames() {
-        // Empty by default, overridden by Sponge7, Sponge8 and Velocity
+        if (!isDisplayNameCheckRequired()) return;
+        if (--callsUntilCheck > 0) return;
+        boolean overrideFound = false;
+        for (Map.Entry<UUID, C> entry : expectedDisplayNames.entrySet()) {
+            if (checkDisplayName(entry.getKey(), entry.getValue())) overrideFound = true;
+        }
+        checkInterval = overrideFound ? 1 : Math.min(checkInterval * 2, MAX_CHECK_INTERVAL);
+        callsUntilCheck = checkInterval;
+    }
+
+    /**
+     * Returns {@code true} if this platform needs to check display names periodically
+     * using {@link #checkDisplayName(UUID, Object)}, {@code false} if not.
+     *
+     * @return  {@code true} if display names need to be checked, {@code false} if not
+     */
+    public boolean isDisplayNameCheckRequired() {
+        return false; // Overridden by Sponge7, Sponge8 and Velocity
+    }
+
+    /**
+     * Checks if entry has expected display name and if not, it is forced.
+     *
+     * @param   entry
+     *          Entry to check
+     * @param   expectedDisplayName
+     *          Expected display name of the entry
+     * @return  {@code true} if display name was overridden and had to be fixed, {@code false} if not
+     */
+    public boolean checkDisplayName(@NonNull UUID entry, @NonNull C expectedDisplayName) {
+        return false; // Overridden by Sponge7, Sponge8 and Velocity
     }
 
     /**
@@ -68,6 +214,19 @@ public abstract class TrackedTabList<P extends TabPlayer, C> implements TabList
         // Empty by default, overridden by Bukkit, BungeeCord and Fabric
     }
 
+    /**
+     * Returns {@code true} if packets of given class should be forwarded into
+     * {@link #onPacketSend(Object)}, {@code false} if not. The result is cached
+     * per class, therefore it must not depend on any other state.
+     *
+     * @param   packetClass
+     *          Class of the packet
+     * @return  {@code true} if packet should be forwarded, {@code false} if not
+     */
+    public boolean isPacketTracked(@NonNull Class<?> packetClass) {
+        return false; // Overridden by Bukkit, BungeeCord and Fabric
+    }
+
     /**
      * Converts TAB component into platform's component.
      *
@@ -90,6 +249,34 @@ public abstract class TrackedTabList<P extends TabPlayer, C> implements TabList
      */
     public abstract void updateDisplayName(@NonNull UUID entry, @Nullable C displayName);
 
+    /**
+     * Removes specified entry from tablist.
+     *
+     * @param   entry
+     *          Entry to remove
+     */
+    public abstract void removeEntry0(@NonNull UUID entry);
+
+    /**
+     * Updates latency of specified entry.
+     *
+     * @param   entry
+     *          Entry to update
+     * @param   latency
+     *          New latency
+     */
+    public abstract void updateLatency0(@NonNull UUID entry, int latency);
+
+    /**
+     * Updates game mode of specified entry.
+     *
+     * @param   entry
+     *          Entry to update
+     * @param   gameMode
+     *          New game mode
+     */
+    public abstract void updateGameMode0(@NonNull UUID entry, int gameMode);
+
     /**
      * Adds specified entry to tablist
      *
@@ -112,4 +299,19 @@ public abstract class TrackedTabList<P extends TabPlayer, C> implements TabList
      */
     public abstract void addEntry(@NonNull UUID id, @NonNull String name, @Nullable Skin skin,
                                   boolean listed, int latency, int gameMode, @Nullable C displayName, int listOrder);
+
+    /**
+     * Values last sent to an entry. Check and update of a value is performed
+     * while holding the instance's lock, together with sending the update, so
+     * updates from different threads cannot be skipped or reordered.
+     */
+    private static class SentValues {
+
+        /** Last sent display name */
+        @Nullable
+        private Object displayName;
+
+        /** Whether display name was sent or not */
+        private boolean displayNameSent;
+    }
 }
@@ -1,6 +1,8 @@
 package me.neznamy.tab.shared.proxy;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.SneakyThrows;
 import me.neznamy.tab.api.placeholder.Placeholder;
 import me.neznamy.tab.shared.GroupManager;
 import me.neznamy.tab.shared.ProtocolVersion;
@@ -19,7 +21,14 @@ import me.neznamy.tab.shared.util.PerformanceUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -32,11 +41,18 @@ public abstract class ProxyPlatform implements Platform {
     /** Placeholders which are refreshed on backend server */
     private final Map<String, Integer> bridgePlaceholders = new ConcurrentHashMap<>();
 
+    /** Configuration hashes confirmed by bridge on each server, used to avoid resending configuration on server switch */
+    private final Map<String, Long> bridgeConfigHashes = new ConcurrentHashMap<>();
+
+    /** Hashes of current configuration for each server, replaced with a new map when configuration changes */
+    @Getter(AccessLevel.NONE)
+    private volatile Map<String, Long> currentConfigHashes = new ConcurrentHashMap<>();
+
     @Override
     public @NotNull GroupManager detectPermissionPlugin() {
         if (LuckPermsHook.getInstance().isInstalled() &&
                 !TAB.getInstance().getConfiguration().getConfig().isBukkitPermissions()) {
-            return new GroupManager("LuckPerms", LuckPermsHook.getInstance().getGroupFunction());
+            return new GroupManager("LuckPerms", LuckPermsHook.getInstance().getGroupFunction(), LuckPermsHook.getInstance());
         }
         return new GroupManager("Vault through Bridge", TabPlayer::getGroup);
     }
@@ -64,11 +80,70 @@ public abstract class ProxyPlatform implements Platform {
             placeholder = pl.registerPlayerPlaceholder(identifier, -1, player -> null);
         }
         bridgePlaceholders.put(placeholder.getIdentifier(), refresh);
+        currentConfigHashes = new ConcurrentHashMap<>();
         for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
             ((ProxyTabPlayer)all).sendPluginMessage(new RegisterPlaceholder(placeholder.getIdentifier(), refresh));
         }
     }
 
+    /**
+     * Forgets configuration hashes confirmed by bridge and computed hashes of current
+     * configuration. Called on unload, as configuration may change on reload.
+     */
+    public void resetBridgeConfigHashes() {
+        bridgeConfigHashes.clear();
+        currentConfigHashes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns hash of configuration sent to bridge on join to specified server, which consists of
+     * bridge placeholders with their refresh intervals and placeholder output replacements. Name
+     * of the server is included as well, so the hash echoed back by bridge identifies the server
+     * it came from even if player switched servers before the response arrived. The hash is only
+     * computed once per server until configuration changes.
+     *
+     * @param   server
+     *          Name of server the configuration is sent to
+     * @return  First 64 bits of SHA-256 digest of the configuration
+     */
+    public long getBridgeConfigHash(@NotNull String server) {
+        return currentConfigHashes.computeIfAbsent(server, this::computeBridgeConfigHash);
+    }
+
+    @SneakyThrows
+    private long computeBridgeConfigHash(@NotNull String server) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, server);
+        Map<String, Integer> placeholders = new TreeMap<>(bridgePlaceholders);
+        out.writeInt(placeholders.size());
+        for (Map.Entry<String, Integer> entry : placeholders.entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+        Map<String, Map<Object, Object>> replacements = new TreeMap<>(TAB.getInstance().getConfiguration().getConfig().getReplacements().raw);
+        out.writeInt(replacements.size());
+        for (Map.Entry<String, Map<Object, Object>> entry : replacements.entrySet()) {
+            writeString(out, entry.getKey());
+            Map<String, String> rules = new TreeMap<>();
+            for (Map.Entry<Object, Object> rule : entry.getValue().entrySet()) {
+                rules.put(String.valueOf(rule.getKey()), String.valueOf(rule.getValue()));
+            }
+            out.writeInt(rules.size());
+            for (Map.Entry<String, String> rule : rules.entrySet()) {
+                writeString(out, rule.getKey());
+                writeString(out, rule.getValue());
+            }
+        }
+        return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(bytes.toByteArray())).getLong();
+    }
+
+    private void writeString(@NotNull DataOutputStream out, @NotNull String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
     @Override
     public void registerPlaceholders() {
         TAB.getInstance().getPlaceholderManager().registerServerPlaceholder(TabConstants.Placeholder.TPS, -1,
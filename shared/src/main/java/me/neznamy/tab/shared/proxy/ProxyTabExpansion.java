@@ -14,7 +14,7 @@ public class ProxyTabExpansion implements TabExpansion {
 
     @Override
     public void setValue(@NotNull TabPlayer player, @NotNull String key, @NotNull String value) {
-        player.expansionValues.put(key, value);
+        if (value.equals(player.expansionValues.put(key, value))) return;
         ((ProxyTabPlayer)player).sendPluginMessage(new ExpansionPlaceholder(key, value));
     }
 
@@ -1,6 +1,8 @@
 package me.neznamy.tab.shared.proxy;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import me.neznamy.tab.api.placeholder.PlayerPlaceholder;
 import me.neznamy.tab.shared.TabConstants;
@@ -14,9 +16,11 @@ import me.neznamy.tab.shared.proxy.message.outgoing.PlayerJoin;
 import me.neznamy.tab.shared.task.PluginMessageEncodeTask;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract class for player on proxy containing variables and methods
@@ -43,6 +47,10 @@ public abstract class ProxyTabPlayer extends TabPlayer {
     /** Player's gamemode */
     private int gamemode;
 
+    /** Join messages not answered by bridge yet, mapped to server they were sent to */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, PendingJoin> pendingJoins = new ConcurrentHashMap<>();
+
     /** Map of player's requested permissions */
     private final Map<String, Boolean> permissions = new HashMap<>();
 
@@ -71,16 +79,37 @@ public abstract class ProxyTabPlayer extends TabPlayer {
 
     /**
      * Sends plugin message to backend server that this player has
-     * joined, containing all plugin configuration data.
+     * joined. Plugin configuration data is only included if the server
+     * did not confirm having the same configuration already.
      */
     public void sendJoinPluginMessage() {
+        ProxyPlatform platform = (ProxyPlatform) getPlatform();
+        long configHash = platform.getBridgeConfigHash(server);
+        Long confirmedHash = platform.getBridgeConfigHashes().get(server);
+        sendJoinPluginMessage(confirmedHash == null || confirmedHash != configHash, configHash);
+    }
+
+    /**
+     * Sends plugin message to backend server that this player has joined.
+     *
+     * @param   includeConfig
+     *          Whether plugin configuration data should be included or not
+     */
+    public void sendJoinPluginMessage(boolean includeConfig) {
+        sendJoinPluginMessage(includeConfig, ((ProxyPlatform) getPlatform()).getBridgeConfigHash(server));
+    }
+
+    private void sendJoinPluginMessage(boolean includeConfig, long configHash) {
         bridgeConnected = false; // Reset on server switch
+        ProxyPlatform platform = (ProxyPlatform) getPlatform();
+        pendingJoins.put(server, new PendingJoin(configHash, includeConfig));
         sendPluginMessage(new PlayerJoin(
                 getVersion().getNetworkId(),
                 TAB.getInstance().getGroupManager().getPermissionPlugin().contains("Vault") &&
                     !TAB.getInstance().getConfiguration().getConfig().isGroupsByPermissions(),
-                ((ProxyPlatform) getPlatform()).getBridgePlaceholders(),
-                TAB.getInstance().getConfiguration().getConfig().getReplacements().raw
+                includeConfig ? platform.getBridgePlaceholders() : Collections.emptyMap(),
+                includeConfig ? TAB.getInstance().getConfiguration().getConfig().getReplacements().raw : Collections.emptyMap(),
+                configHash
         ));
         TabExpansion expansion = TAB.getInstance().getPlaceholderManager().getTabExpansion();
         if (expansion instanceof ProxyTabExpansion) {
@@ -89,6 +118,37 @@ public abstract class ProxyTabPlayer extends TabPlayer {
         bridgeRequestTime = System.currentTimeMillis();
     }
 
+    /**
+     * Processes configuration hash bridge responded with. If it matches a sent hash,
+     * server the hash was sent to is marked as synchronized and configuration will not be
+     * sent again on switch to that server. Since the hash includes server name, a late
+     * response from previous server is attributed correctly. If it does not match (such as
+     * when server restarted), it answers the join message sent to current server. If that
+     * message did not include configuration, join message is sent again with full
+     * configuration, once per mismatch. Mismatching responses while no join message to
+     * current server is pending are late responses from previous servers and are ignored.
+     *
+     * @param   configHash
+     *          Hash of configuration bridge has stored
+     */
+    public void processBridgeConfigHash(long configHash) {
+        ProxyPlatform platform = (ProxyPlatform) getPlatform();
+        for (Map.Entry<String, PendingJoin> entry : pendingJoins.entrySet()) {
+            if (entry.getValue().configHash == configHash && pendingJoins.remove(entry.getKey(), entry.getValue())) {
+                platform.getBridgeConfigHashes().put(entry.getKey(), configHash);
+                return;
+            }
+        }
+        String currentServer = server;
+        PendingJoin pending = pendingJoins.remove(currentServer);
+        if (pending == null) return;
+        platform.getBridgeConfigHashes().remove(currentServer);
+        if (!pending.fullConfig) {
+            TAB.getInstance().debug("Bridge on server " + currentServer + " does not have expected configuration, performing full synchronization");
+            sendJoinPluginMessage(true);
+        }
+    }
+
     /**
      * Sets permission presence status to provided value
      *
@@ -165,4 +225,17 @@ public abstract class ProxyTabPlayer extends TabPlayer {
     public void sendPluginMessage(@NotNull OutgoingMessage message) {
         CpuManager.getPluginMessageEncodeThread().execute(new PluginMessageEncodeTask(this, message));
     }
+
+    /**
+     * Join message sent to a server which bridge did not respond to yet.
+     */
+    @RequiredArgsConstructor
+    private static class PendingJoin {
+
+        /** Hash of configuration sent in the message */
+        private final long configHash;
+
+        /** Whether the message contained full configuration or not */
+        private final boolean fullConfig;
+    }
 }
\ No newline at end of file
@@ -20,6 +20,9 @@ public class PlayerJoinResponse implements IncomingMessage {
     private Map<String, Object> placeholders;
     private int gameMode;
 
+    /** Hash of configuration bridge has stored, {@code null} if bridge does not support it */
+    private Long configHash;
+
     @Override
     public void read(@NotNull ByteArrayDataInput in) {
         world = in.readUTF();
@@ -43,6 +46,11 @@ public class PlayerJoinResponse implements IncomingMessage {
             }
         }
         gameMode = in.readInt();
+        try {
+            configHash = in.readLong();
+        } catch (IllegalStateException e) {
+            // Older bridge version without configuration hash support
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -83,5 +91,6 @@ public class PlayerJoinResponse implements IncomingMessage {
         PlayerPlaceholderImpl.bulkUpdateValues(player, playerPlaceholderUpdates);
         player.setGamemode(gameMode);
         player.setBridgeConnected(true);
+        if (configHash != null) player.processBridgeConfigHash(configHash);
     }
 }
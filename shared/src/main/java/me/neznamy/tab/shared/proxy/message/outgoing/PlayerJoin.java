@@ -8,6 +8,12 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.Map;
 
+/**
+ * Plugin message sent to bridge when player joins a backend server.
+ * Placeholders and replacements are only included if the server has not
+ * confirmed having configuration with the same hash already, otherwise they
+ * are sent empty and bridge keeps using the configuration it received before.
+ */
 @AllArgsConstructor
 @SuppressWarnings("UnstableApiUsage")
 public class PlayerJoin implements OutgoingMessage {
@@ -16,6 +22,7 @@ public class PlayerJoin implements OutgoingMessage {
     private boolean forwardGroup;
     private Map<String, Integer> placeholders;
     private Map<String, Map<Object, Object>> replacements;
+    private long configHash;
 
     @Override
     @NotNull
@@ -39,6 +46,7 @@ public class PlayerJoin implements OutgoingMessage {
             }
         }
         out.writeBoolean(false); // Deleted unlimited nametags
+        out.writeLong(configHash);
         return out;
     }
 }
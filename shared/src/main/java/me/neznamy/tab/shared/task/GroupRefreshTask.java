@@ -22,13 +22,23 @@ public class GroupRefreshTask implements Runnable {
     @Override
     public void run() {
         for (TabPlayer all : TAB.getInstance().getOnlinePlayers()) {
-            String oldGroup = all.getPermissionGroup();
-            String newGroup = detectGroup.apply(all);
-            if (!oldGroup.equals(newGroup)) {
-                // Back to main thread to avoid concurrency issues
-                CpuManager cpu = TAB.getInstance().getCpu();
-                cpu.getProcessingThread().execute(new TimedCaughtTask(cpu, () -> all.setGroup(newGroup), "Permission group refreshing", "Applying changes"));
-            }
+            refresh(all);
+        }
+    }
+
+    /**
+     * Detects permission group of specified player and applies it if it changed.
+     *
+     * @param   player
+     *          Player to refresh group of
+     */
+    public void refresh(@NotNull TabPlayer player) {
+        String oldGroup = player.getPermissionGroup();
+        String newGroup = detectGroup.apply(player);
+        if (!oldGroup.equals(newGroup)) {
+            // Back to main thread to avoid concurrency issues
+            CpuManager cpu = TAB.getInstance().getCpu();
+            cpu.getProcessingThread().execute(new TimedCaughtTask(cpu, () -> player.setGroup(newGroup), "Permission group refreshing", "Applying changes"));
         }
     }
 }
@@ -1,11 +1,13 @@
 package me.neznamy.tab.shared.util.cache;
 
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import me.neznamy.tab.shared.TAB;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
@@ -16,14 +18,39 @@ import java.util.function.Function;
  * @param   <V>
  *          Target to convert to
  */
-@RequiredArgsConstructor
 public class Cache<K, V> {
 
+    /** Statistics of all caches by cache name, only counted while enabled */
+    @Getter
+    private static final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+
+    /** Flag tracking whether hits and misses should be counted or not */
+    @Getter
+    private static volatile boolean statisticsEnabled;
+
     private int accessCount;
     private final String name;
     private final int cacheSize;
     private final Function<K, V> function;
     private final Map<K, V> cache = new HashMap<>();
+    private final Statistics stats;
+
+    /**
+     * Constructs new instance with given parameters.
+     *
+     * @param   name
+     *          Cache name
+     * @param   cacheSize
+     *          Size limit of the cache
+     * @param   function
+     *          Function for converting values not present in the cache
+     */
+    public Cache(@NotNull String name, int cacheSize, @NotNull Function<K, V> function) {
+        this.name = name;
+        this.cacheSize = cacheSize;
+        this.function = function;
+        stats = statistics.computeIfAbsent(name, n -> new Statistics());
+    }
 
     /**
      * Gets value from cache. If not present, it is created using given function, inserted
@@ -42,6 +69,44 @@ public class Cache<K, V> {
             accessCount = 0;
             cache.clear();
         }
-        return cache.computeIfAbsent(key, function);
+        V value = cache.get(key);
+        if (value != null) {
+            if (statisticsEnabled) stats.hits.incrementAndGet();
+            return value;
+        }
+        if (statisticsEnabled) stats.misses.incrementAndGet();
+        value = function.apply(key);
+        cache.put(key, value);
+        return value;
+    }
+
+    /**
+     * Enables or disables counting of hits and misses. Disabling resets all
+     * counters, so values do not carry over into the next enable, such as
+     * after a plugin reload.
+     *
+     * @param   enabled
+     *          Whether hits and misses should be counted or not
+     */
+    public static void setStatisticsEnabled(boolean enabled) {
+        statisticsEnabled = enabled;
+        if (enabled) return;
+        for (Statistics stats : statistics.values()) {
+            stats.hits.set(0);
+            stats.misses.set(0);
+        }
+    }
+
+    /**
+     * Hit and miss counters of a cache.
+     */
+    @Getter
+    public static class Statistics {
+
+        /** Amount of requests which found the value in the cache */
+        private final AtomicLong hits = new AtomicLong();
+
+        /** Amount of requests which had to convert the value */
+        private final AtomicLong misses = new AtomicLong();
     }
 }
@@ -35,7 +35,7 @@ public class SpongeTabList extends TrackedTabList<SpongeTabPlayer, Text> {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
         player.getPlayer().getTabList().removeEntry(entry);
     }
 
@@ -45,12 +45,12 @@ public class SpongeTabList extends TrackedTabList<SpongeTabPlayer, Text> {
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
+    public void updateLatency0(@NonNull UUID entry, int latency) {
         player.getPlayer().getTabList().getEntry(entry).ifPresent(e -> e.setLatency(latency));
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
         player.getPlayer().getTabList().getEntry(entry).ifPresent(e -> e.setGameMode(gameModes[gameMode]));
     }
 
@@ -91,12 +91,15 @@ public class SpongeTabList extends TrackedTabList<SpongeTabPlayer, Text> {
     }
 
     @Override
-    public void checkDisplayNames() {
-        for (TabListEntry entry : player.getPlayer().getTabList().getEntries()) {
-            Text expectedComponent = getExpectedDisplayNames().get(entry.getProfile().getUniqueId());
-            if (expectedComponent != null && entry.getDisplayName().orElse(null) != expectedComponent) {
-                entry.setDisplayName(expectedComponent);
-            }
-        }
+    public boolean isDisplayNameCheckRequired() {
+        return true;
+    }
+
+    @Override
+    public boolean checkDisplayName(@NonNull UUID entry, @NonNull Text expectedDisplayName) {
+        TabListEntry tabListEntry = player.getPlayer().getTabList().getEntry(entry).orElse(null);
+        if (tabListEntry == null || tabListEntry.getDisplayName().orElse(null) == expectedDisplayName) return false;
+        tabListEntry.setDisplayName(expectedDisplayName);
+        return true;
     }
 }
@@ -35,7 +35,7 @@ public class SpongeTabList extends TrackedTabList<SpongeTabPlayer, Component> {
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
         player.getPlayer().tabList().removeEntry(entry);
     }
 
@@ -45,12 +45,12 @@ public class SpongeTabList extends TrackedTabList<SpongeTabPlayer, Component> {
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
+    public void updateLatency0(@NonNull UUID entry, int latency) {
         player.getPlayer().tabList().entry(entry).ifPresent(e -> e.setLatency(latency));
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
         player.getPlayer().tabList().entry(entry).ifPresent(e -> e.setGameMode(gameModes[gameMode]));
     }
 
@@ -92,12 +92,15 @@ public class SpongeTabList extends TrackedTabList<SpongeTabPlayer, Component> {
     }
 
     @Override
-    public void checkDisplayNames() {
-        for (TabListEntry entry : player.getPlayer().tabList().entries()) {
-            Component expectedComponent = getExpectedDisplayNames().get(entry.profile().uniqueId());
-            if (expectedComponent != null && entry.displayName().orElse(null) != expectedComponent) {
-                entry.setDisplayName(expectedComponent);
-            }
-        }
+    public boolean isDisplayNameCheckRequired() {
+        return true;
+    }
+
+    @Override
+    public boolean checkDisplayName(@NonNull UUID entry, @NonNull Component expectedDisplayName) {
+        TabListEntry tabListEntry = player.getPlayer().tabList().entry(entry).orElse(null);
+        if (tabListEntry == null || tabListEntry.displayName().orElse(null) == expectedDisplayName) return false;
+        tabListEntry.setDisplayName(expectedDisplayName);
+        return true;
     }
 }
@@ -29,7 +29,7 @@ public class VelocityTabList extends TrackedTabList<VelocityTabPlayer, Component
     }
 
     @Override
-    public void removeEntry(@NonNull UUID entry) {
+    public void removeEntry0(@NonNull UUID entry) {
         player.getPlayer().getTabList().removeEntry(entry);
     }
 
@@ -39,12 +39,12 @@ public class VelocityTabList extends TrackedTabList<VelocityTabPlayer, Component
     }
 
     @Override
-    public void updateLatency(@NonNull UUID entry, int latency) {
+    public void updateLatency0(@NonNull UUID entry, int latency) {
         player.getPlayer().getTabList().getEntry(entry).ifPresent(e -> e.setLatency(latency));
     }
 
     @Override
-    public void updateGameMode(@NonNull UUID entry, int gameMode) {
+    public void updateGameMode0(@NonNull UUID entry, int gameMode) {
         player.getPlayer().getTabList().getEntry(entry).ifPresent(e -> e.setGameMode(gameMode));
     }
 
@@ -73,7 +73,7 @@ public class VelocityTabList extends TrackedTabList<VelocityTabPlayer, Component
         // #2 - If player is 1.20.2+, tablist is cleared by the client itself without requirement to remove
         //      manually by the proxy, however velocity's tablist entry tracker still thinks they are present
         //      and therefore will refuse to add them
-        removeEntry(id);
+        removeEntry0(id);
 
         player.getPlayer().getTabList().addEntry(e);
     }
@@ -89,12 +89,15 @@ public class VelocityTabList extends TrackedTabList<VelocityTabPlayer, Component
     }
 
     @Override
-    public void checkDisplayNames() {
-        for (TabListEntry entry : player.getPlayer().getTabList().getEntries()) {
-            Component expectedComponent = getExpectedDisplayNames().get(entry.getProfile().getId());
-            if (expectedComponent != null && entry.getDisplayNameComponent().orElse(null) != expectedComponent) {
-                entry.setDisplayName(expectedComponent);
-            }
-        }
+    public boolean isDisplayNameCheckRequired() {
+        return true;
+    }
+
+    @Override
+    public boolean checkDisplayName(@NonNull UUID entry, @NonNull Component expectedDisplayName) {
+        TabListEntry tabListEntry = player.getPlayer().getTabList().getEntry(entry).orElse(null);
+        if (tabListEntry == null || tabListEntry.getDisplayNameComponent().orElse(null) == expectedDisplayName) return false;
+        tabListEntry.setDisplayName(expectedDisplayName);
+        return true;
     }
 }